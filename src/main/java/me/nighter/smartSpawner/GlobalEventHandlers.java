@@ -1,26 +1,99 @@
 package me.nighter.smartSpawner;
 import me.nighter.smartSpawner.spawner.properties.SpawnerManager;
 import me.nighter.smartSpawner.spawner.properties.SpawnerData;
+import me.nighter.smartSpawner.spawner.properties.utils.VanillaSpawnerSuppressor;
+import me.nighter.smartSpawner.utils.ConfigManager;
 
+import org.bukkit.Chunk;
+import org.bukkit.block.Block;
+import org.bukkit.block.CreatureSpawner;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.SpawnerSpawnEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.Set;
 
 public class GlobalEventHandlers implements Listener {
+    private final SmartSpawner plugin;
     private final SpawnerManager spawnerManager;
+    private final ConfigManager configManager;
 
     public GlobalEventHandlers(SmartSpawner plugin) {
+        this.plugin = plugin;
         this.spawnerManager = plugin.getSpawnerManager();
+        this.configManager = plugin.getConfigManager();
+        // Migrates spawners saved before vanilla ticking was suppressed, unloaded ones are handled on chunk load
+        spawnerManager.suppressLoadedSpawners(spawnerManager.getAllSpawners());
+    }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (event.isNewChunk()) return;
+
+        Chunk chunk = event.getChunk();
+        String worldName = chunk.getWorld().getName();
+        if (spawnerManager.getSpawnersInChunk(worldName, chunk.getX(), chunk.getZ()).isEmpty()) return;
+
+        // Ghosts are removed here instead of force loading their chunks at startup
+        spawnerManager.validateChunk(worldName, chunk.getX(), chunk.getZ());
+        Set<SpawnerData> spawners = spawnerManager.getSpawnersInChunk(worldName, chunk.getX(), chunk.getZ());
+        for (SpawnerData spawner : spawners) {
+            // Switched off spawners are left to vanilla
+            if (spawner.getSpawnerActive()) {
+                VanillaSpawnerSuppressor.suppress(spawner.getSpawnerLocation().getBlock());
+            }
+        }
+        spawnerManager.unparkChunk(worldName, chunk.getX(), chunk.getZ());
+        plugin.getRangeChecker().unparkChunk(worldName, chunk.getX(), chunk.getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        String worldName = chunk.getWorld().getName();
+        if (spawnerManager.getSpawnersInChunk(worldName, chunk.getX(), chunk.getZ()).isEmpty()) return;
+
+        spawnerManager.parkChunk(worldName, chunk.getX(), chunk.getZ());
+        plugin.getRangeChecker().parkChunk(worldName, chunk.getX(), chunk.getZ());
+    }
+
+    // Worlds that load and unload at runtime only keep their spawners in memory while loaded
+    @EventHandler
+    public void onWorldLoad(WorldLoadEvent event) {
+        int loaded = spawnerManager.loadWorldSpawners(event.getWorld());
+        if (loaded > 0) {
+            configManager.debug("Paged in " + loaded + " spawners of world " + event.getWorld().getName());
+        }
     }
 
-    // Prevent spawner from spawning mobs
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        int unloaded = spawnerManager.unloadWorldSpawners(event.getWorld());
+        if (unloaded > 0) {
+            configManager.debug("Paged out " + unloaded + " spawners of world " + event.getWorld().getName());
+        }
+    }
+
+    // Prevent spawner from spawning mobs. Every active spawner the plugin manages carries the suppressed
+    // delays from placement, activation, paging in or chunk load, so plain vanilla spawners exit on the
+    // block's own state without a lookup. Suppressed blocks only get here about every 27 minutes
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onCreatureSpawn(SpawnerSpawnEvent event){
-        if (event.getSpawner() == null) return;
-        SpawnerData spawner = spawnerManager.getSpawnerByLocation(event.getSpawner().getLocation());
+        CreatureSpawner creatureSpawner = event.getSpawner();
+        if (creatureSpawner == null || !VanillaSpawnerSuppressor.isSuppressed(creatureSpawner)) return;
+
+        SpawnerData spawner = spawnerManager.getSpawnerByLocation(creatureSpawner.getLocation());
         if (spawner != null && spawner.getSpawnerActive()) {
             event.setCancelled(true);
+        } else {
+            // No longer managed but still carrying our delays, let vanilla take it over again
+            Block block = creatureSpawner.getBlock();
+            plugin.getTaskScheduler().runAtLocation(block.getLocation(), () -> VanillaSpawnerSuppressor.restore(block));
         }
     }
 }
@@ -1,5 +1,6 @@
 package me.nighter.smartSpawner;
 
+import me.nighter.smartSpawner.api.SmartSpawnerAPI;
 import me.nighter.smartSpawner.bstats.Metrics;
 import me.nighter.smartSpawner.commands.CommandHandler;
 import me.nighter.smartSpawner.commands.list.SpawnerListGUI;
@@ -31,13 +32,14 @@ import me.nighter.smartSpawner.spawner.lootgen.SpawnerLootGenerator;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.LanguageManager;
 import me.nighter.smartSpawner.utils.UpdateChecker;
+import me.nighter.smartSpawner.utils.scheduler.ScheduledTask;
+import me.nighter.smartSpawner.utils.scheduler.TaskScheduler;
 import me.nighter.smartSpawner.nms.VersionInitializer;
 import me.ryanhamshire.GriefPrevention.GriefPrevention;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.geysermc.floodgate.api.FloodgateApi;
 
 import java.util.concurrent.CompletableFuture;
@@ -68,6 +70,7 @@ public class SmartSpawner extends JavaPlugin {
     private SpawnerStorageAction spawnerStorageAction;
 
     // Core managers
+    private TaskScheduler taskScheduler;
     private ConfigManager configManager;
     private LanguageManager languageManager;
     private SpawnerManager spawnerManager;
@@ -84,6 +87,7 @@ public class SmartSpawner extends JavaPlugin {
     private SpawnerBreakListener spawnerBreakListener;
     private SpawnerPlaceListener spawnerPlaceListener;
     private UpdateChecker updateChecker;
+    private SmartSpawnerAPI api;
 
     // Integration flags - static for quick access
     public static boolean hasTowny = false;
@@ -150,6 +154,7 @@ public class SmartSpawner extends JavaPlugin {
      */
     private CompletableFuture<Void> initializeComponents() {
         // Initialize core components in order
+        this.taskScheduler = TaskScheduler.create(this);
         this.configManager = new ConfigManager(this);
         this.languageManager = new LanguageManager(this);
         this.spawnerStorageUI = new SpawnerStorageUI(this);
@@ -158,6 +163,7 @@ public class SmartSpawner extends JavaPlugin {
         this.spawnerGuiViewManager = new SpawnerGuiViewManager(this);
         this.spawnerLootGenerator = new SpawnerLootGenerator(this);
         this.rangeChecker = new SpawnerRangeChecker(this);
+        this.api = new SmartSpawnerAPI(this);
 ;
         // Parallel initialization for components that can be initialized concurrently
         CompletableFuture<Void> asyncInit = CompletableFuture.runAsync(() -> {
@@ -190,7 +196,7 @@ public class SmartSpawner extends JavaPlugin {
         // Complete initialization
         return asyncInit.thenRunAsync(() -> {
             updateChecker.initialize();
-        }, getServer().getScheduler().getMainThreadExecutor(this));
+        }, taskScheduler::runGlobal);
     }
 
     /**
@@ -372,10 +378,10 @@ public class SmartSpawner extends JavaPlugin {
      * Runs a task asynchronously.
      *
      * @param runnable The task to run
-     * @return The BukkitTask representing the scheduled task
+     * @return The ScheduledTask representing the scheduled task
      */
-    public BukkitTask runTaskAsync(Runnable runnable) {
-        return getServer().getScheduler().runTaskAsynchronously(this, runnable);
+    public ScheduledTask runTaskAsync(Runnable runnable) {
+        return taskScheduler.runAsync(runnable);
     }
 
     /**
@@ -392,6 +398,10 @@ public class SmartSpawner extends JavaPlugin {
         return instance;
     }
 
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
     public ConfigManager getConfigManager() {
         return configManager;
     }
@@ -432,6 +442,15 @@ public class SmartSpawner extends JavaPlugin {
         return spawnerManager;
     }
 
+    /**
+     * Gets the read API for other plugins.
+     *
+     * @return The API instance
+     */
+    public SmartSpawnerAPI getAPI() {
+        return api;
+    }
+
     public SpawnerRangeChecker getRangeChecker() {
         return rangeChecker;
     }
@@ -0,0 +1,100 @@
+package me.nighter.smartSpawner.api;
+
+import me.nighter.smartSpawner.SmartSpawner;
+import me.nighter.smartSpawner.spawner.properties.SpawnerData;
+import me.nighter.smartSpawner.spawner.properties.SpawnerManager;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Read API for other plugins, e.g. island value or leaderboard integrations.
+ * <p>
+ * Every query runs off the main thread and returns immutable {@link SpawnerView} snapshots,
+ * built from the registry's published spawner lists rather than its live maps. Each spawner is
+ * read under its own lock, so a view is consistent with itself but spawners are read one after
+ * another. Futures complete on an async thread, callers that need to touch the world have to
+ * switch back themselves.
+ * <pre>{@code
+ * SmartSpawner.getInstance().getAPI().getSpawnersByOwner(playerId)
+ *         .thenApply(views -> views.stream().mapToLong(SpawnerView::stackSize).sum())
+ *         .thenAccept(stacks -> updateIslandValue(playerId, stacks));
+ * }</pre>
+ */
+public class SmartSpawnerAPI {
+    private final SmartSpawner plugin;
+    private final SpawnerManager spawnerManager;
+
+    public SmartSpawnerAPI(SmartSpawner plugin) {
+        this.plugin = plugin;
+        this.spawnerManager = plugin.getSpawnerManager();
+    }
+
+    /**
+     * @return Views of every loaded spawner
+     */
+    public CompletableFuture<List<SpawnerView>> getSpawners() {
+        return supplyViews(spawnerManager::getAllSpawners);
+    }
+
+    /**
+     * @param spawnerId The spawner ID
+     * @return A view of the spawner, empty if no loaded spawner has that ID
+     */
+    public CompletableFuture<Optional<SpawnerView>> getSpawner(String spawnerId) {
+        return supplyAsync(() -> Optional.ofNullable(spawnerManager.getSpawnerById(spawnerId)).map(SpawnerView::of));
+    }
+
+    /**
+     * @param worldName The name of the world
+     * @return Views of the world's spawners, empty if the world is not loaded
+     */
+    public CompletableFuture<List<SpawnerView>> getSpawnersInWorld(String worldName) {
+        return supplyViews(() -> spawnerManager.getIndex().getWorldSpawners(worldName));
+    }
+
+    /**
+     * @param worldName The name of the world
+     * @param minChunkX The lowest chunk X coordinate, inclusive
+     * @param minChunkZ The lowest chunk Z coordinate, inclusive
+     * @param maxChunkX The highest chunk X coordinate, inclusive
+     * @param maxChunkZ The highest chunk Z coordinate, inclusive
+     * @return Views of the spawners inside the chunk rectangle
+     */
+    public CompletableFuture<List<SpawnerView>> getSpawnersInChunks(String worldName, int minChunkX, int minChunkZ,
+                                                                    int maxChunkX, int maxChunkZ) {
+        return supplyViews(() -> spawnerManager.getSpawnersInChunkRange(worldName, minChunkX, minChunkZ, maxChunkX, maxChunkZ));
+    }
+
+    /**
+     * @param ownerId The player's UUID
+     * @return Views of the player's loaded spawners
+     */
+    public CompletableFuture<List<SpawnerView>> getSpawnersByOwner(UUID ownerId) {
+        return supplyViews(() -> spawnerManager.getSpawnersByOwner(ownerId));
+    }
+
+    private CompletableFuture<List<SpawnerView>> supplyViews(Supplier<? extends Collection<SpawnerData>> source) {
+        return supplyAsync(() -> {
+            Collection<SpawnerData> spawners = source.get();
+            List<SpawnerView> views = new ArrayList<>(spawners.size());
+            for (SpawnerData spawner : spawners) {
+                views.add(SpawnerView.of(spawner));
+            }
+            return Collections.unmodifiableList(views);
+        });
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        plugin.getTaskScheduler().runAsync(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,81 @@
+package me.nighter.smartSpawner.api;
+
+import me.nighter.smartSpawner.spawner.properties.SpawnerData;
+import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable copy of a spawner's state at the time it was read. Safe to keep and pass between
+ * threads, it never changes after creation and doesn't hold on to the spawner or its world.
+ *
+ * @param spawnerId   The persistent spawner ID
+ * @param worldName   The name of the spawner's world
+ * @param x           The block X coordinate
+ * @param y           The block Y coordinate
+ * @param z           The block Z coordinate
+ * @param entityType  The spawned entity type
+ * @param stackSize   The number of stacked spawners
+ * @param exp         The stored experience
+ * @param maxExp      The maximum storable experience
+ * @param storedItems The total number of items in storage
+ * @param usedSlots   The storage slots in use
+ * @param maxSlots    The storage slots available
+ * @param ownerId     The player who placed or activated the spawner, null if unknown
+ * @param active      Whether the spawner is switched on
+ */
+public record SpawnerView(String spawnerId, String worldName, int x, int y, int z,
+                          EntityType entityType, int stackSize, int exp, int maxExp,
+                          long storedItems, int usedSlots, int maxSlots, UUID ownerId, boolean active) {
+
+    // Read under the spawner lock, the same lock stacking, loot and sales hold while they change
+    // the spawner, so a view never mixes values from before and after one of them. Storage is
+    // read through its running counters, which never rehydrate compacted storage
+    static SpawnerView of(SpawnerData spawner) {
+        Location loc = spawner.getSpawnerLocation();
+        World world = loc.isWorldLoaded() ? loc.getWorld() : null;
+
+        ReentrantLock lock = spawner.getLock();
+        lock.lock();
+        try {
+            VirtualInventory inventory = spawner.getVirtualInventory();
+            return new SpawnerView(
+                    spawner.getSpawnerId(),
+                    world != null ? world.getName() : null,
+                    loc.getBlockX(), loc.getBlockY(), loc.getBlockZ(),
+                    spawner.getEntityType(),
+                    spawner.getStackSize(),
+                    spawner.getSpawnerExp(),
+                    spawner.getMaxStoredExp(),
+                    inventory != null ? inventory.getTotalItems() : 0,
+                    inventory != null ? inventory.getUsedSlots() : 0,
+                    inventory != null ? inventory.getMaxSlots() : spawner.getMaxSpawnerLootSlots(),
+                    spawner.getOwnerId(),
+                    Boolean.TRUE.equals(spawner.getSpawnerActive())
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The block location, or null if the world is not loaded
+     */
+    public Location toLocation() {
+        World world = worldName != null ? Bukkit.getWorld(worldName) : null;
+        return world != null ? new Location(world, x, y, z) : null;
+    }
+
+    public int getChunkX() {
+        return x >> 4;
+    }
+
+    public int getChunkZ() {
+        return z >> 4;
+    }
+}
@@ -4,6 +4,7 @@ import me.nighter.smartSpawner.SmartSpawner;
 import me.nighter.smartSpawner.commands.give.GiveCommand;
 import me.nighter.smartSpawner.commands.hologram.HologramCommand;
 import me.nighter.smartSpawner.commands.list.ListCommand;
+import me.nighter.smartSpawner.commands.memory.MemoryCommand;
 import me.nighter.smartSpawner.commands.reload.ReloadCommand;
 import org.bukkit.command.*;
 import org.bukkit.entity.Player;
@@ -18,6 +19,7 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
     private final GiveCommand giveCommand;
     private final ListCommand listCommand;
     private final HologramCommand hologramCommand;
+    private final MemoryCommand memoryCommand;
     private final SmartSpawner plugin;
 
     public CommandHandler(SmartSpawner plugin) {
@@ -26,6 +28,7 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         this.giveCommand = new GiveCommand(plugin);
         this.listCommand = new ListCommand(plugin);
         this.hologramCommand = new HologramCommand(plugin);
+        this.memoryCommand = new MemoryCommand(plugin);
     }
 
     @Override
@@ -39,6 +42,10 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             return giveCommand.executeCommand(args);
         }
 
+        if (args[0].equalsIgnoreCase("memory")) {
+            return memoryCommand.onCommand(sender, args);
+        }
+
         if (!(sender instanceof Player)) {
             sender.sendMessage("Only players can use this command.");
             return true;
@@ -80,6 +87,9 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             if (sender.hasPermission("smartspawner.hologram")) {
                 completions.add("hologram");
             }
+            if (sender.hasPermission("smartspawner.memory")) {
+                completions.add("memory");
+            }
             return completions.stream()
                     .filter(s -> s.toLowerCase().startsWith(args[0].toLowerCase()))
                     .collect(Collectors.toList());
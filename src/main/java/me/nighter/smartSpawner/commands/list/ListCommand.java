@@ -100,11 +100,7 @@ public class ListCommand {
             return;
         }
         player.playSound(player.getLocation(), Sound.UI_BUTTON_CLICK, 1.0f, 1.0f);
-        List<SpawnerData> worldSpawners = spawnerManager.getAllSpawners().stream()
-                .filter(spawner -> spawner.getSpawnerLocation().getWorld().getName().equals(worldName))
-                .collect(Collectors.toList());
-
-        int totalPages = (int) Math.ceil((double) worldSpawners.size() / SPAWNERS_PER_PAGE);
+        int totalPages = (int) Math.ceil((double) spawnerManager.countSpawnersInWorld(worldName) / SPAWNERS_PER_PAGE);
         page = Math.max(1, Math.min(page, totalPages));
 
         String worldTitle = switch (worldName) {
@@ -124,13 +120,8 @@ public class ListCommand {
         Inventory inv = Bukkit.createInventory(new SpawnerListHolder(page, totalPages, worldName),
                 54, title);
 
-        // Calculate start and end indices for current page
-        int startIndex = (page - 1) * SPAWNERS_PER_PAGE;
-        int endIndex = Math.min(startIndex + SPAWNERS_PER_PAGE, worldSpawners.size());
-
-        // Populate inventory with spawners
-        for (int i = startIndex; i < endIndex; i++) {
-            SpawnerData spawner = worldSpawners.get(i);
+        // Populate inventory with spawners, only the current page is read from the world index
+        for (SpawnerData spawner : spawnerManager.getSpawnerPage(worldName, page, SPAWNERS_PER_PAGE)) {
             inv.addItem(createSpawnerInfoItem(spawner));
         }
 
@@ -0,0 +1,179 @@
+package me.nighter.smartSpawner.commands.memory;
+
+import me.nighter.smartSpawner.SmartSpawner;
+import me.nighter.smartSpawner.extras.HopperHandler;
+import me.nighter.smartSpawner.spawner.properties.SpawnerData;
+import me.nighter.smartSpawner.spawner.properties.SpawnerIndex;
+import me.nighter.smartSpawner.spawner.properties.SpawnerManager;
+import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
+import me.nighter.smartSpawner.utils.LanguageManager;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+
+import java.util.*;
+
+/**
+ * Reports an estimate of the heap retained by spawners, grouped by world,
+ * entity type and stack size, together with the heaviest individual spawners.
+ */
+public class MemoryCommand {
+    private static final int DEFAULT_TOP = 10;
+    private static final int MAX_TOP = 50;
+
+    // Rough retained sizes on a 64-bit JVM with compressed oops
+    private static final long SPAWNER_BASE_BYTES = 320;     // SpawnerData, Location and boxed fields
+    private static final long INVENTORY_BASE_BYTES = 200;   // VirtualInventory and its empty maps
+    private static final long SIGNATURE_BYTES = 360;        // ItemSignature, template ItemStack and map node
+    private static final long DISPLAY_SLOT_BYTES = 180;     // Display ItemStack plus both display map nodes
+    private static final long HOLOGRAM_BYTES = 2048;        // SpawnerHologram and its TextDisplay entity
+    private static final long LOCK_BYTES = 48;              // ReentrantLock and its sync object
+
+    private final SmartSpawner plugin;
+    private final SpawnerManager spawnerManager;
+    private final LanguageManager languageManager;
+
+    public MemoryCommand(SmartSpawner plugin) {
+        this.plugin = plugin;
+        this.spawnerManager = plugin.getSpawnerManager();
+        this.languageManager = plugin.getLanguageManager();
+    }
+
+    private record Footprint(SpawnerData spawner, long bytes) {}
+
+    private static class Group {
+        int count;
+        long bytes;
+
+        void add(long size) {
+            count++;
+            bytes += size;
+        }
+    }
+
+    public boolean onCommand(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("smartspawner.memory")) {
+            sender.sendMessage(languageManager.getMessageWithPrefix("no-permission.message"));
+            return true;
+        }
+
+        int top = DEFAULT_TOP;
+        if (args.length > 1) {
+            try {
+                top = Math.max(1, Math.min(MAX_TOP, Integer.parseInt(args[1])));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(languageManager.getMessageWithPrefix("command.memory.usage"));
+                return true;
+            }
+        }
+
+        sendReport(sender, top);
+        return true;
+    }
+
+    private void sendReport(CommandSender sender, int top) {
+        HopperHandler hopperHandler = plugin.getHopperHandler();
+
+        Map<String, Group> byWorld = new TreeMap<>();
+        Map<String, Group> byEntity = new TreeMap<>();
+        SortedMap<Integer, Group> byStack = new TreeMap<>();
+        List<Footprint> footprints = new ArrayList<>();
+
+        long totalBytes = 0;
+        int signatures = 0, displaySlots = 0, coldCount = 0, holograms = 0, locks = 0;
+        long signatureBytes = 0, displayBytes = 0, coldBytes = 0;
+
+        for (SpawnerData spawner : spawnerManager.getAllSpawners()) {
+            VirtualInventory virtualInv = spawner.getVirtualInventory();
+            int spawnerSignatures = virtualInv.getSignatureCount();
+            int spawnerDisplaySlots = virtualInv.getDisplayCacheSize();
+            int spawnerColdBytes = virtualInv.getColdDataSize();
+            int spawnerLocks = 1 + (hopperHandler != null && hopperHandler.hasSpawnerLock(spawner) ? 1 : 0);
+
+            long bytes = SPAWNER_BASE_BYTES + INVENTORY_BASE_BYTES
+                    + spawnerSignatures * SIGNATURE_BYTES
+                    + spawnerDisplaySlots * DISPLAY_SLOT_BYTES
+                    + spawnerColdBytes
+                    + spawnerLocks * LOCK_BYTES
+                    + (spawner.hasHologram() ? HOLOGRAM_BYTES : 0);
+
+            signatures += spawnerSignatures;
+            signatureBytes += spawnerSignatures * SIGNATURE_BYTES;
+            displaySlots += spawnerDisplaySlots;
+            displayBytes += spawnerDisplaySlots * DISPLAY_SLOT_BYTES;
+            if (virtualInv.isCold()) {
+                coldCount++;
+                coldBytes += spawnerColdBytes;
+            }
+            if (spawner.hasHologram()) holograms++;
+            locks += spawnerLocks;
+            totalBytes += bytes;
+
+            World world = spawner.getSpawnerLocation().getWorld();
+            byWorld.computeIfAbsent(world != null ? world.getName() : "?", k -> new Group()).add(bytes);
+            byEntity.computeIfAbsent(spawner.getEntityType().name(), k -> new Group()).add(bytes);
+            byStack.computeIfAbsent(SpawnerIndex.getStackBucket(spawner.getStackSize()), k -> new Group()).add(bytes);
+            footprints.add(new Footprint(spawner, bytes));
+        }
+
+        sender.sendMessage(languageManager.getMessageWithPrefix("command.memory.header"));
+        sender.sendMessage(message("command.memory.total",
+                "%count%", String.valueOf(footprints.size()),
+                "%size%", formatBytes(totalBytes)));
+        sender.sendMessage(message("command.memory.inventory",
+                "%signatures%", String.valueOf(signatures),
+                "%signature_size%", formatBytes(signatureBytes),
+                "%display_slots%", String.valueOf(displaySlots),
+                "%display_size%", formatBytes(displayBytes),
+                "%cold_count%", String.valueOf(coldCount),
+                "%cold_size%", formatBytes(coldBytes)));
+        sender.sendMessage(message("command.memory.other",
+                "%holograms%", String.valueOf(holograms),
+                "%hologram_size%", formatBytes(holograms * HOLOGRAM_BYTES),
+                "%locks%", String.valueOf(locks),
+                "%lock_size%", formatBytes(locks * LOCK_BYTES)));
+
+        sendGroup(sender, "command.memory.group.world", byWorld);
+        sendGroup(sender, "command.memory.group.entity", byEntity);
+        Map<String, Group> byStackLabel = new LinkedHashMap<>();
+        byStack.forEach((bucket, group) -> byStackLabel.put(bucket + "-" + (bucket * 10L - 1), group));
+        sendGroup(sender, "command.memory.group.stack", byStackLabel);
+
+        footprints.sort(Comparator.comparingLong(Footprint::bytes).reversed());
+        sender.sendMessage(message("command.memory.top-header", "%top%", String.valueOf(top)));
+        for (int i = 0; i < Math.min(top, footprints.size()); i++) {
+            SpawnerData spawner = footprints.get(i).spawner();
+            World world = spawner.getSpawnerLocation().getWorld();
+            sender.sendMessage(message("command.memory.top-line",
+                    "%id%", spawner.getSpawnerId(),
+                    "%entity%", spawner.getEntityType().name(),
+                    "%stack%", String.valueOf(spawner.getStackSize()),
+                    "%world%", world != null ? world.getName() : "?",
+                    "%size%", formatBytes(footprints.get(i).bytes())));
+        }
+    }
+
+    private void sendGroup(CommandSender sender, String headerPath, Map<String, Group> groups) {
+        sender.sendMessage(languageManager.getMessage(headerPath));
+        for (Map.Entry<String, Group> entry : groups.entrySet()) {
+            sender.sendMessage(message("command.memory.group.line",
+                    "%name%", entry.getKey(),
+                    "%count%", String.valueOf(entry.getValue().count),
+                    "%size%", formatBytes(entry.getValue().bytes)));
+        }
+    }
+
+    // Report values change every run, so avoid the cached replacement lookups
+    private String message(String path, String... replacements) {
+        String message = languageManager.getMessage(path);
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            message = message.replace(replacements[i], replacements[i + 1]);
+        }
+        return message;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
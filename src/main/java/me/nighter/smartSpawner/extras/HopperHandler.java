@@ -1,27 +1,27 @@
 package me.nighter.smartSpawner.extras;
 
 import me.nighter.smartSpawner.SmartSpawner;
-import me.nighter.smartSpawner.spawner.gui.synchronization.SpawnerGuiViewManager;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.LanguageManager;
+import me.nighter.smartSpawner.utils.scheduler.ScheduledTask;
 import me.nighter.smartSpawner.spawner.gui.storage.SpawnerStorageUI;
 import me.nighter.smartSpawner.spawner.properties.SpawnerManager;
 import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
 import me.nighter.smartSpawner.spawner.properties.SpawnerData;
+import me.nighter.smartSpawner.spawner.properties.utils.HandleTable;
 import org.bukkit.*;
-import org.bukkit.block.BlockState;
 import org.bukkit.block.Hopper;
 import org.bukkit.event.Listener;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,70 +29,80 @@ import java.util.concurrent.locks.ReentrantLock;
 
 public class HopperHandler implements Listener {
     private final SmartSpawner plugin;
-    private final Map<Location, BukkitTask> activeHoppers = new ConcurrentHashMap<>();
+    private final Map<Location, ScheduledTask> activeHoppers = new ConcurrentHashMap<>();
     private final SpawnerManager spawnerManager;
     private final SpawnerStorageUI spawnerStorageUI;
-    private final SpawnerGuiViewManager spawnerGuiViewManager;
     private final LanguageManager languageManager;
     private final ConfigManager configManager;
-    private final Map<String, ReentrantLock> spawnerLocks = new ConcurrentHashMap<>();
+    private final HandleTable<ReentrantLock> spawnerLocks = new HandleTable<>();
+    // Hoppers whose spawner storage ran empty, their task is stopped until items arrive. Hopper -> spawner
+    private final Map<Location, Location> idleHoppers = new ConcurrentHashMap<>();
+    private final HandleTable<VirtualInventory.ChangeListener> storageListeners = new HandleTable<>();
 
     public HopperHandler(SmartSpawner plugin) {
         this.plugin = plugin;
         this.spawnerManager = plugin.getSpawnerManager();
         this.spawnerStorageUI = plugin.getSpawnerStorageUI();
-        this.spawnerGuiViewManager = plugin.getSpawnerGuiManager();
         this.languageManager = plugin.getLanguageManager();
         this.configManager = plugin.getConfigManager();
 
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
-        Bukkit.getScheduler().runTaskLater(plugin, this::restartAllHoppers, 40L);
+        plugin.getTaskScheduler().runGlobalLater(this::restartAllHoppers, 40L);
     }
 
+    // Each block is read on the thread owning it, on a single threaded server that is this one
     public void restartAllHoppers() {
-        for (World world : plugin.getServer().getWorlds()) {
-            for (Chunk chunk : world.getLoadedChunks()) {
-                for (BlockState state : chunk.getTileEntities()) {
-                    if (state.getType() == Material.HOPPER) {
-                        Block hopperBlock = state.getBlock();
-                        Block aboveBlock = hopperBlock.getRelative(BlockFace.UP);
-
-                        if (aboveBlock.getType() == Material.SPAWNER) {
-                            startHopperTask(hopperBlock.getLocation(), aboveBlock.getLocation());
-                        }
-                    }
+        for (SpawnerData spawner : spawnerManager.getAllSpawners()) {
+            Location spawnerLoc = spawner.getSpawnerLocation();
+            plugin.getTaskScheduler().executeAtLocation(spawnerLoc, () -> {
+                World world = spawnerLoc.getWorld();
+                if (world != null && world.isChunkLoaded(spawnerLoc.getBlockX() >> 4, spawnerLoc.getBlockZ() >> 4)) {
+                    startHopperBelow(spawnerLoc);
                 }
-            }
+            });
         }
     }
 
+    // Only hoppers right below a spawner are driven, so the chunk's spawners are enough to find them
     @EventHandler
     public void onChunkLoad(ChunkLoadEvent event) {
         Chunk chunk = event.getChunk();
-        for (BlockState state : chunk.getTileEntities()) {
-            if (state.getType() == Material.HOPPER) {
-                Block hopperBlock = state.getBlock();
-                Block aboveBlock = hopperBlock.getRelative(BlockFace.UP);
-                if (aboveBlock.getType() == Material.SPAWNER) {
-                    startHopperTask(hopperBlock.getLocation(), aboveBlock.getLocation());
-                }
-            }
+        for (SpawnerData spawner : spawnerManager.getSpawnersInChunk(chunk.getWorld().getName(), chunk.getX(), chunk.getZ())) {
+            startHopperBelow(spawner.getSpawnerLocation());
         }
     }
 
     @EventHandler
     public void onChunkUnload(ChunkUnloadEvent event) {
         Chunk chunk = event.getChunk();
-        for (BlockState state : chunk.getTileEntities()) {
-            if (state.getType() == Material.HOPPER) {
-                stopHopperTask(state.getLocation());
-            }
+        for (SpawnerData spawner : spawnerManager.getSpawnersInChunk(chunk.getWorld().getName(), chunk.getX(), chunk.getZ())) {
+            stopHopperTask(spawner.getSpawnerLocation().getBlock().getRelative(BlockFace.DOWN).getLocation());
+        }
+    }
+
+    // The world's spawners are paged out, their hoppers restart with the chunks once it loads again
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        World world = event.getWorld();
+        activeHoppers.entrySet().removeIf(entry -> {
+            if (!world.equals(entry.getKey().getWorld())) return false;
+            entry.getValue().cancel();
+            return true;
+        });
+        idleHoppers.keySet().removeIf(hopperLoc -> world.equals(hopperLoc.getWorld()));
+    }
+
+    private void startHopperBelow(Location spawnerLoc) {
+        Block hopperBlock = spawnerLoc.getBlock().getRelative(BlockFace.DOWN);
+        if (hopperBlock.getType() == Material.HOPPER) {
+            startHopperTask(hopperBlock.getLocation(), spawnerLoc);
         }
     }
 
     public void cleanup() {
-        activeHoppers.values().forEach(BukkitTask::cancel);
+        activeHoppers.values().forEach(ScheduledTask::cancel);
         activeHoppers.clear();
+        idleHoppers.clear();
         spawnerLocks.clear();
     }
 
@@ -113,24 +123,91 @@ public class HopperHandler implements Listener {
         }
     }
 
+    public boolean hasSpawnerLock(SpawnerData spawner) {
+        return spawnerLocks.containsKey(spawner.getHandle());
+    }
+
+    // A released spawner has no handle, it gets a lock of its own that is simply not kept
     private ReentrantLock getOrCreateLock(SpawnerData spawner) {
-        return spawnerLocks.computeIfAbsent(spawner.getSpawnerId(), k -> new ReentrantLock());
+        int handle = spawner.getHandle();
+        ReentrantLock lock = spawnerLocks.get(handle);
+        if (lock != null) return lock;
+
+        ReentrantLock created = new ReentrantLock();
+        lock = spawnerLocks.putIfAbsent(handle, created);
+        return lock != null ? lock : created;
+    }
+
+    // Called before the spawner's handle is released, the lock and subscription are keyed by it
+    public void releaseSpawner(SpawnerData spawner) {
+        int handle = spawner.getHandle();
+        spawnerLocks.remove(handle);
+        VirtualInventory.ChangeListener listener = storageListeners.remove(handle);
+        if (listener != null) {
+            spawner.removeInventoryListener(listener);
+        }
+        idleHoppers.remove(getHopperLocation(spawner.getSpawnerLocation()));
+    }
+
+    // Same key as the hopper block's own location, without touching the block
+    private static Location getHopperLocation(Location spawnerLoc) {
+        return new Location(spawnerLoc.getWorld(), spawnerLoc.getBlockX(), spawnerLoc.getBlockY() - 1, spawnerLoc.getBlockZ());
+    }
+
+    private void subscribe(SpawnerData spawner) {
+        int handle = spawner.getHandle();
+        if (handle < 0 || storageListeners.containsKey(handle)) return;
+
+        VirtualInventory.ChangeListener listener = (inventory, change) -> onStorageChange(spawner, change);
+        if (storageListeners.putIfAbsent(handle, listener) == null) {
+            spawner.addInventoryListener(listener);
+        }
+    }
+
+    // Wakes the idle hopper below once items are stored again
+    private void onStorageChange(SpawnerData spawner, VirtualInventory.InventoryChange change) {
+        if (change.countDelta() <= 0 || idleHoppers.isEmpty()) return;
+
+        Location spawnerLoc = spawner.getSpawnerLocation();
+        Location hopperLoc = getHopperLocation(spawnerLoc);
+        if (idleHoppers.remove(hopperLoc) != null) {
+            plugin.getTaskScheduler().runAtLocation(hopperLoc, () -> startHopperTask(hopperLoc, spawnerLoc));
+        }
+    }
+
+    // An empty storage has nothing to move, so the task stops instead of polling it every interval.
+    // Checked under the spawner lock, which storage changes publish under, so a wakeup can't be missed
+    private void parkHopper(Location hopperLoc, SpawnerData spawner) {
+        if (spawner.getHandle() < 0) return;
+        subscribe(spawner);
+
+        ReentrantLock spawnerLock = spawner.getLock();
+        spawnerLock.lock();
+        try {
+            if (spawner.getVirtualInventory().getTotalItems() > 0) return;
+            idleHoppers.put(hopperLoc, spawner.getSpawnerLocation());
+        } finally {
+            spawnerLock.unlock();
+        }
+
+        ScheduledTask task = activeHoppers.remove(hopperLoc);
+        if (task != null) {
+            task.cancel();
+        }
     }
 
     public void startHopperTask(Location hopperLoc, Location spawnerLoc) {
         if (!configManager.isHopperEnabled()) return;
+        idleHoppers.remove(hopperLoc);
         if (activeHoppers.containsKey(hopperLoc)) return;
 
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!isValidSetup(hopperLoc, spawnerLoc)) {
-                    stopHopperTask(hopperLoc);
-                    return;
-                }
-                transferItems(hopperLoc, spawnerLoc);
+        ScheduledTask task = plugin.getTaskScheduler().runAtLocationTimer(hopperLoc, () -> {
+            if (!isValidSetup(hopperLoc, spawnerLoc)) {
+                stopHopperTask(hopperLoc);
+                return;
             }
-        }.runTaskTimer(plugin, 0L, configManager.getHopperCheckInterval());
+            transferItems(hopperLoc, spawnerLoc);
+        }, 0L, configManager.getHopperCheckInterval());
 
         activeHoppers.put(hopperLoc, task);
     }
@@ -145,7 +222,8 @@ public class HopperHandler implements Listener {
     }
 
     public void stopHopperTask(Location hopperLoc) {
-        BukkitTask task = activeHoppers.remove(hopperLoc);
+        idleHoppers.remove(hopperLoc);
+        ScheduledTask task = activeHoppers.remove(hopperLoc);
         if (task != null) {
             task.cancel();
         }
@@ -160,11 +238,15 @@ public class HopperHandler implements Listener {
 
         try {
             VirtualInventory virtualInv = spawner.getVirtualInventory();
+            if (virtualInv.getTotalItems() == 0) {
+                parkHopper(hopperLoc, spawner);
+                return;
+            }
+
             Hopper hopper = (Hopper) hopperLoc.getBlock().getState();
 
             int itemsPerTransfer = configManager.getHopperItemsPerTransfer();
             int transferred = 0;
-            boolean inventoryChanged = false;
 
             Map<Integer, ItemStack> displayItems = virtualInv.getDisplayInventory();
             List<ItemStack> itemsToRemove = new ArrayList<>();
@@ -184,7 +266,6 @@ public class HopperHandler implements Listener {
                         hopper.getInventory().setItem(i, item.clone());
                         itemsToRemove.add(item);
                         transferred++;
-                        inventoryChanged = true;
                         break;
                     } else if (hopperItem.isSimilar(item) &&
                             hopperItem.getAmount() < hopperItem.getMaxStackSize()) {
@@ -198,39 +279,17 @@ public class HopperHandler implements Listener {
                         itemsToRemove.add(toRemove);
 
                         transferred++;
-                        inventoryChanged = true;
                         break;
                     }
                 }
             }
 
+            // Open views pick the change up through their storage subscription
             if (!itemsToRemove.isEmpty()) {
                 virtualInv.removeItems(itemsToRemove);
             }
-
-            if (inventoryChanged) {
-                updateOpenGuis(spawner);
-            }
         } finally {
             lock.unlock();
         }
     }
-
-    private void updateOpenGuis(SpawnerData spawner) {
-        // Keep track of the old used slots for page calculation
-        int oldUsedSlots = spawner.getVirtualInventory().getUsedSlots();
-
-        // Batch update - run every 2 ticks
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            // Calculate total pages before and after the inventory change
-            int oldTotalPages = (int) Math.ceil((double) oldUsedSlots / 45); // Using same ITEMS_PER_PAGE constant as in SpawnerGuiManager
-            int newTotalPages = (int) Math.ceil((double) spawner.getVirtualInventory().getUsedSlots() / 45);
-
-            // Update all storage GUI viewers
-            spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
-
-            // Update all spawner menu GUI viewers
-            spawnerGuiViewManager.updateSpawnerMenuViewers(spawner);
-        }, 2L);
-    }
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package me.nighter.smartSpawner.holders;
 
 import me.nighter.smartSpawner.spawner.properties.SpawnerData;
+import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
 
 public class StoragePageHolder implements InventoryHolder, SpawnerHolder {
     private final SpawnerData spawnerData;
@@ -15,14 +19,23 @@ public class StoragePageHolder implements InventoryHolder, SpawnerHolder {
     public static final int SLOTS_PER_PAGE = ROWS_PER_PAGE * 9;
     public static final int MAX_ITEMS_PER_PAGE = 45; // Pre-calculated value
 
+    public static final int NAVIGATION_SLOTS = 9;
+
     // Cache the inventory reference
     private Inventory inventory;
 
+    // Last rendered content of each slot, so refreshes only send slots that changed.
+    // An amount of -1 marks a slot whose client-side content is unknown
+    private final VirtualInventory.ItemSignature[] renderedSignatures = new VirtualInventory.ItemSignature[MAX_ITEMS_PER_PAGE];
+    private final int[] renderedAmounts = new int[MAX_ITEMS_PER_PAGE];
+    private final ItemStack[] renderedButtons = new ItemStack[NAVIGATION_SLOTS];
+
     public StoragePageHolder(SpawnerData spawnerData, int currentPage, int totalPages) {
         this.spawnerData = spawnerData;
         this.currentPage = Math.max(1, Math.min(currentPage, totalPages)); // Ensure valid page range
         this.totalPages = Math.max(1, totalPages);
         this.oldUsedSlots = spawnerData.getVirtualInventory().getUsedSlots();
+        Arrays.fill(renderedAmounts, -1);
     }
 
     @Override
@@ -78,4 +91,33 @@ public class StoragePageHolder implements InventoryHolder, SpawnerHolder {
     public int getItemIndex(int slotIndex) {
         return ((currentPage - 1) * MAX_ITEMS_PER_PAGE) + slotIndex;
     }
-}
\ No newline at end of file
+
+    // ===============================================================
+    //                    Render State
+    // ===============================================================
+
+    public boolean isSlotRendered(int slot, VirtualInventory.ItemSignature signature, int amount) {
+        return renderedAmounts[slot] == amount && renderedSignatures[slot] == signature;
+    }
+
+    public void markSlotRendered(int slot, VirtualInventory.ItemSignature signature, int amount) {
+        renderedSignatures[slot] = signature;
+        renderedAmounts[slot] = amount;
+    }
+
+    // Must be called whenever a storage slot is changed outside of SpawnerStorageUI
+    public void invalidateSlot(int slot) {
+        if (slot >= 0 && slot < MAX_ITEMS_PER_PAGE) {
+            renderedSignatures[slot] = null;
+            renderedAmounts[slot] = -1;
+        }
+    }
+
+    public ItemStack getRenderedButton(int index) {
+        return renderedButtons[index];
+    }
+
+    public void markButtonRendered(int index, ItemStack button) {
+        renderedButtons[index] = button;
+    }
+}
@@ -1,10 +1,8 @@
 package me.nighter.smartSpawner.hooks.shops.api.economyshopgui;
 
 import me.nighter.smartSpawner.SmartSpawner;
-import me.nighter.smartSpawner.holders.StoragePageHolder;
 import me.nighter.smartSpawner.hooks.shops.IShopIntegration;
 import me.nighter.smartSpawner.hooks.shops.SaleLogger;
-import me.nighter.smartSpawner.spawner.gui.synchronization.SpawnerGuiViewManager;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.LanguageManager;
 import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
@@ -28,7 +26,6 @@ public class EconomyShopGUI implements IShopIntegration {
     private final SmartSpawner plugin;
     private final LanguageManager languageManager;
     private final ConfigManager configManager;
-    private final SpawnerGuiViewManager spawnerGuiViewManager;
 
     // Transaction timeout
     private static final long TRANSACTION_TIMEOUT_MS = 5000; // 5 seconds timeout
@@ -41,7 +38,6 @@ public class EconomyShopGUI implements IShopIntegration {
         this.plugin = plugin;
         this.languageManager = plugin.getLanguageManager();
         this.configManager = plugin.getConfigManager();
-        this.spawnerGuiViewManager = plugin.getSpawnerGuiManager();
     }
 
     @Override
@@ -73,7 +69,7 @@ public class EconomyShopGUI implements IShopIntegration {
 
                 if (error != null) {
                     plugin.getLogger().log(Level.SEVERE, "Error processing sale", error);
-                    plugin.getServer().getScheduler().runTask(plugin, () ->
+                    plugin.getTaskScheduler().runForEntity(player, () ->
                             languageManager.sendMessage(player, "messages.sell-failed"));
                 }
             });
@@ -100,7 +96,7 @@ public class EconomyShopGUI implements IShopIntegration {
         Map<VirtualInventory.ItemSignature, Long> items = virtualInv.getConsolidatedItems();
 
         if (items.isEmpty()) {
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     languageManager.sendMessage(player, "messages.no-items"));
             return false;
         }
@@ -108,26 +104,21 @@ public class EconomyShopGUI implements IShopIntegration {
         // Calculate prices and prepare items
         SaleCalculationResult calculation = calculateSalePrices(player, items);
         if (!calculation.isValid()) {
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     languageManager.sendMessage(player, "messages.no-sellable-items"));
             return false;
         }
 
-        int oldTotalPages = calculateTotalPages(spawner);
         // Pre-remove items to improve UX
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        plugin.getTaskScheduler().runForEntity(player, () -> {
             virtualInv.removeItems(calculation.getItemsToRemove());
-            if (virtualInv.isDirty()) {
-                int newTotalPages = calculateTotalPages(spawner);
-                spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
-            }
         });
 
         try {
             // Process transactions
             CompletableFuture<Boolean> transactionFuture = new CompletableFuture<>();
 
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getTaskScheduler().runForEntity(player, () -> {
                 boolean success = processTransactions(player, calculation);
                 transactionFuture.complete(success);
             });
@@ -136,11 +127,9 @@ public class EconomyShopGUI implements IShopIntegration {
 
             if (!success) {
                 // Restore items if payment fails
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                plugin.getTaskScheduler().runForEntity(player, () -> {
                     virtualInv.addItems(calculation.getItemsToRemove());
                     languageManager.sendMessage(player, "messages.sell-failed");
-                    int newTotalPages = calculateTotalPages(spawner);
-                    spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
                 });
                 return false;
             }
@@ -149,28 +138,21 @@ public class EconomyShopGUI implements IShopIntegration {
             updateShopStats(calculation.getSoldItems(), player.getUniqueId());
 
             // Send success message
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     sendSuccessMessage(player, calculation));
 
             return true;
 
         } catch (Exception e) {
             // Restore items on timeout/error
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getTaskScheduler().runForEntity(player, () -> {
                 virtualInv.addItems(calculation.getItemsToRemove());
                 languageManager.sendMessage(player, "messages.sell-failed");
-                int newTotalPages = calculateTotalPages(spawner);
-                spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
             });
             return false;
         }
     }
 
-    private int calculateTotalPages(SpawnerData spawner) {
-        int usedSlots = spawner.getVirtualInventory().getUsedSlots();
-        return Math.max(1, (int) Math.ceil((double) usedSlots / StoragePageHolder.MAX_ITEMS_PER_PAGE));
-    }
-
     private boolean processTransactions(Player player, SaleCalculationResult calculation) {
         Map<EcoType, Double> afterTaxPrices = calculation.getTaxedPrices();
 
@@ -1,10 +1,8 @@
 package me.nighter.smartSpawner.hooks.shops.api.shopguiplus;
 
 import me.nighter.smartSpawner.SmartSpawner;
-import me.nighter.smartSpawner.holders.StoragePageHolder;
 import me.nighter.smartSpawner.hooks.shops.IShopIntegration;
 import me.nighter.smartSpawner.hooks.shops.SaleLogger;
-import me.nighter.smartSpawner.spawner.gui.synchronization.SpawnerGuiViewManager;
 import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.LanguageManager;
@@ -15,7 +13,6 @@ import net.brcdev.shopgui.economy.EconomyManager;
 import net.brcdev.shopgui.economy.EconomyType;
 import net.brcdev.shopgui.provider.economy.EconomyProvider;
 
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
@@ -28,7 +25,6 @@ public class ShopGuiPlus implements IShopIntegration {
     private final SmartSpawner plugin;
     private final LanguageManager languageManager;
     private final ConfigManager configManager;
-    private final SpawnerGuiViewManager spawnerGuiViewManager;
     private final boolean isLoggingEnabled;
 
     // Transaction timeout
@@ -42,7 +38,6 @@ public class ShopGuiPlus implements IShopIntegration {
         this.plugin = plugin;
         this.languageManager = plugin.getLanguageManager();
         this.configManager = plugin.getConfigManager();
-        this.spawnerGuiViewManager = plugin.getSpawnerGuiManager();
         this.isLoggingEnabled = configManager.isLoggingEnabled();
     }
 
@@ -80,7 +75,7 @@ public class ShopGuiPlus implements IShopIntegration {
 
                 if (error != null) {
                     plugin.getLogger().log(Level.SEVERE, "Error processing sale", error);
-                    plugin.getServer().getScheduler().runTask(plugin, () ->
+                    plugin.getTaskScheduler().runForEntity(player, () ->
                             languageManager.sendMessage(player, "messages.sell-failed"));
                 }
             });
@@ -107,7 +102,7 @@ public class ShopGuiPlus implements IShopIntegration {
         Map<VirtualInventory.ItemSignature, Long> items = virtualInv.getConsolidatedItems();
 
         if (items.isEmpty()) {
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     languageManager.sendMessage(player, "messages.no-items"));
             return false;
         }
@@ -115,27 +110,21 @@ public class ShopGuiPlus implements IShopIntegration {
         // Calculate prices and prepare items by economy type
         SaleCalculationResult calculation = calculateSalePrices(player, items);
         if (!calculation.isValid()) {
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     languageManager.sendMessage(player, "messages.no-sellable-items"));
             return false;
         }
 
-        int oldTotalPages = calculateTotalPages(spawner);
         // Pre-remove items to improve UX
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        plugin.getTaskScheduler().runForEntity(player, () -> {
             virtualInv.removeItems(calculation.getItemsToRemove());
-            // Force inventory update
-            if (player.getOpenInventory().getTopInventory().getHolder() instanceof StoragePageHolder) {
-                int newTotalPages = calculateTotalPages(spawner);
-                spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
-            }
         });
 
         try {
             // Process transactions for each economy type
             CompletableFuture<Boolean> transactionFuture = new CompletableFuture<>();
 
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getTaskScheduler().runForEntity(player, () -> {
                 boolean success = processTransactions(player, calculation);
                 transactionFuture.complete(success);
             });
@@ -144,11 +133,9 @@ public class ShopGuiPlus implements IShopIntegration {
 
             if (!success) {
                 // Restore items if payment fails
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                plugin.getTaskScheduler().runForEntity(player, () -> {
                     virtualInv.addItems(calculation.getItemsToRemove());
                     languageManager.sendMessage(player, "messages.sell-failed");
-                    int newTotalPages = calculateTotalPages(spawner);
-                    spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
                 });
                 return false;
             }
@@ -160,27 +147,20 @@ public class ShopGuiPlus implements IShopIntegration {
 
             // Send success message
             double taxPercentage = configManager.getTaxPercentage();
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     sendSuccessMessage(player, calculation.getTotalAmount(), calculation.getTotalPrice(), taxPercentage));
 
             return true;
 
         } catch (Exception e) {
             // Restore items on timeout/error
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getTaskScheduler().runForEntity(player, () -> {
                 virtualInv.addItems(calculation.getItemsToRemove());
-                int newTotalPages = calculateTotalPages(spawner);
-                spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
             });
             return false;
         }
     }
 
-    private int calculateTotalPages(SpawnerData spawner) {
-        int usedSlots = spawner.getVirtualInventory().getUsedSlots();
-        return Math.max(1, (int) Math.ceil((double) usedSlots / StoragePageHolder.MAX_ITEMS_PER_PAGE));
-    }
-
     private boolean processTransactions(Player player, SaleCalculationResult calculation) {
         double taxPercentage = configManager.getTaxPercentage();
 
@@ -216,7 +196,7 @@ public class ShopGuiPlus implements IShopIntegration {
     }
 
     private void logSalesAsync(SaleCalculationResult calculation, String playerName) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getTaskScheduler().runAsync(() -> {
             for (Map.Entry<String, SaleInfo> entry : calculation.getItemSales().entrySet()) {
                 SaleInfo saleInfo = entry.getValue();
                 SaleLogger.getInstance().logSale(
@@ -3,10 +3,8 @@ package me.nighter.smartSpawner.hooks.shops.api.zshop;
 import fr.maxlego08.zshop.api.ShopManager;
 import fr.maxlego08.zshop.api.buttons.ItemButton;
 import me.nighter.smartSpawner.SmartSpawner;
-import me.nighter.smartSpawner.holders.StoragePageHolder;
 import me.nighter.smartSpawner.hooks.shops.IShopIntegration;
 import me.nighter.smartSpawner.hooks.shops.SaleLogger;
-import me.nighter.smartSpawner.spawner.gui.synchronization.SpawnerGuiViewManager;
 import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.LanguageManager;
@@ -27,7 +25,6 @@ public class ZShop implements IShopIntegration {
     private final LanguageManager languageManager;
     private final ConfigManager configManager;
     private ShopManager shopManager;
-    private final SpawnerGuiViewManager spawnerGuiViewManager;
     private Economy vaultEconomy;
 
     // Transaction timeout
@@ -41,7 +38,6 @@ public class ZShop implements IShopIntegration {
         this.plugin = plugin;
         this.languageManager = plugin.getLanguageManager();
         this.configManager = plugin.getConfigManager();
-        this.spawnerGuiViewManager = plugin.getSpawnerGuiManager();
         setupVaultEconomy();
     }
 
@@ -114,7 +110,7 @@ public class ZShop implements IShopIntegration {
 
                 if (error != null) {
                     plugin.getLogger().log(Level.SEVERE, "Error processing sale", error);
-                    plugin.getServer().getScheduler().runTask(plugin, () ->
+                    plugin.getTaskScheduler().runForEntity(player, () ->
                             languageManager.sendMessage(player, "messages.sell-failed"));
                 }
             });
@@ -140,7 +136,7 @@ public class ZShop implements IShopIntegration {
         Map<VirtualInventory.ItemSignature, Long> items = virtualInv.getConsolidatedItems();
 
         if (items.isEmpty()) {
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     languageManager.sendMessage(player, "messages.no-items"));
             return false;
         }
@@ -148,20 +144,14 @@ public class ZShop implements IShopIntegration {
         // Calculate prices and validate items
         SaleCalculationResult calculation = calculateSalePrices(player, items);
         if (!calculation.isValid()) {
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     languageManager.sendMessage(player, "messages.no-sellable-items"));
             return false;
         }
 
-        int oldTotalPages = calculateTotalPages(spawner);
         // Pre-remove items to improve UX
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        plugin.getTaskScheduler().runForEntity(player, () -> {
             virtualInv.removeItems(calculation.getItemsToRemove());
-            // Force inventory update
-            if (player.getOpenInventory().getTopInventory().getHolder() instanceof StoragePageHolder) {
-                int newTotalPages = calculateTotalPages(spawner);
-                spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
-            }
         });
 
         // Process payment
@@ -172,7 +162,7 @@ public class ZShop implements IShopIntegration {
             CompletableFuture<Boolean> depositFuture = new CompletableFuture<>();
 
             // Process economy transaction on main thread
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getTaskScheduler().runForEntity(player, () -> {
                 boolean success = vaultEconomy.depositPlayer(player, netAmount).transactionSuccess();
                 depositFuture.complete(success);
             });
@@ -181,14 +171,9 @@ public class ZShop implements IShopIntegration {
 
             if (!success) {
                 // Restore items if payment fails
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                plugin.getTaskScheduler().runForEntity(player, () -> {
                     virtualInv.addItems(calculation.getItemsToRemove());
                     languageManager.sendMessage(player, "messages.sell-failed");
-                    // Force inventory update
-                    if (player.getOpenInventory().getTopInventory().getHolder() instanceof StoragePageHolder) {
-                        int newTotalPages = calculateTotalPages(spawner);
-                        spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
-                    }
                 });
                 return false;
             }
@@ -199,30 +184,23 @@ public class ZShop implements IShopIntegration {
             }
 
             // Send success message on main thread
-            plugin.getServer().getScheduler().runTask(plugin, () ->
+            plugin.getTaskScheduler().runForEntity(player, () ->
                     sendSuccessMessage(player, calculation.getTotalAmount(), netAmount, taxPercentage));
 
             return true;
 
         } catch (Exception e) {
             // Restore items on timeout/error
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getTaskScheduler().runForEntity(player, () -> {
                 virtualInv.addItems(calculation.getItemsToRemove());
-                int newTotalPages = calculateTotalPages(spawner);
-                spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
                 languageManager.sendMessage(player, "messages.sell-failed");
             });
             return false;
         }
     }
 
-    private int calculateTotalPages(SpawnerData spawner) {
-        int usedSlots = spawner.getVirtualInventory().getUsedSlots();
-        return Math.max(1, (int) Math.ceil((double) usedSlots / StoragePageHolder.MAX_ITEMS_PER_PAGE));
-    }
-
     private void logSalesAsync(SaleCalculationResult calculation, String playerName) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getTaskScheduler().runAsync(() -> {
             for (Map.Entry<ItemStack, Double> entry : calculation.getItemPrices().entrySet()) {
                 ItemStack item = entry.getKey();
                 double price = entry.getValue();
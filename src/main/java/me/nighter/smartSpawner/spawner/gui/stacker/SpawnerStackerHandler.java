@@ -6,7 +6,7 @@ import me.nighter.smartSpawner.spawner.gui.main.SpawnerMenuUI;
 import me.nighter.smartSpawner.spawner.properties.SpawnerData;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.LanguageManager;
-import org.bukkit.Bukkit;
+import me.nighter.smartSpawner.utils.scheduler.ScheduledTask;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.block.CreatureSpawner;
@@ -24,7 +24,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BlockStateMeta;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,7 +52,7 @@ public class SpawnerStackerHandler implements Listener {
 
     // Player interaction tracking
     private final Map<UUID, Long> lastClickTime = new ConcurrentHashMap<>();
-    private final Map<UUID, BukkitTask> pendingUpdates = new ConcurrentHashMap<>();
+    private final Map<UUID, ScheduledTask> pendingUpdates = new ConcurrentHashMap<>();
     private final Map<String, Set<UUID>> activeViewers = new ConcurrentHashMap<>();
     private final Map<UUID, AtomicBoolean> updateLocks = new ConcurrentHashMap<>();
 
@@ -74,7 +73,7 @@ public class SpawnerStackerHandler implements Listener {
     }
 
     private void startCleanupTask() {
-        Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        plugin.getTaskScheduler().runGlobalTimer(() -> {
             long now = System.currentTimeMillis();
             lastClickTime.entrySet().removeIf(entry -> now - entry.getValue() > 5000);
             updateLocks.entrySet().removeIf(entry -> !lastClickTime.containsKey(entry.getKey()));
@@ -148,7 +147,7 @@ public class SpawnerStackerHandler implements Listener {
         String spawnerId = holder.getSpawnerData().getSpawnerId();
 
         // Verify the player is really closing the GUI (not just inventory updates)
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        plugin.getTaskScheduler().runForEntityLater(player, () -> {
             Inventory topInventory = player.getOpenInventory().getTopInventory();
             if (!(topInventory.getHolder() instanceof SpawnerStackerHolder)) {
                 // Remove viewer and cancel any pending updates
@@ -167,7 +166,7 @@ public class SpawnerStackerHandler implements Listener {
 
     private void cleanupPlayer(UUID playerId) {
         // Cancel any pending tasks
-        BukkitTask task = pendingUpdates.remove(playerId);
+        ScheduledTask task = pendingUpdates.remove(playerId);
         if (task != null && !task.isCancelled()) {
             task.cancel();
         }
@@ -278,6 +277,15 @@ public class SpawnerStackerHandler implements Listener {
             return;
         }
 
+        // The owner's limit across all of their spawners caps the space as well
+        int allowance = plugin.getSpawnerManager().getStackAllowance(spawner, player);
+        if (allowance <= 0) {
+            languageManager.sendMessage(player, "messages.stack-limit-owner",
+                    "%limit%", String.valueOf(configManager.getMaxStackedPerPlayer()));
+            return;
+        }
+        spaceLeft = Math.min(spaceLeft, allowance);
+
         // Limit change to available space
         int actualChange = Math.min(changeAmount, spaceLeft);
 
@@ -300,6 +308,7 @@ public class SpawnerStackerHandler implements Listener {
 
         // Remove from inventory and update stack
         removeValidSpawnersFromInventory(player, spawner.getEntityType(), actualChange);
+        plugin.getSpawnerManager().claimOwnership(spawner, player);
         spawner.setStackSize(currentSize + actualChange, player);
 
         // Notify if max stack reached
@@ -319,26 +328,26 @@ public class SpawnerStackerHandler implements Listener {
         // Only schedule update if viewers exist
         if (viewers.isEmpty()) return;
 
-        // Schedule single update task for all viewers
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            for (UUID viewerId : viewers) {
-                Player viewer = plugin.getServer().getPlayer(viewerId);
-                if (viewer != null && viewer.isOnline()) {
-                    // Try to get update lock for this player
-                    AtomicBoolean lock = updateLocks.computeIfAbsent(viewerId, k -> new AtomicBoolean(false));
-
-                    // Only update if not currently updating
-                    if (lock.compareAndSet(false, true)) {
-                        try {
-                            updateGui(viewer, spawner);
-                        } finally {
-                            // Always release lock
-                            lock.set(false);
-                        }
+        // Schedule the update on each viewer's own thread
+        for (UUID viewerId : viewers) {
+            Player viewer = plugin.getServer().getPlayer(viewerId);
+            if (viewer == null || !viewer.isOnline()) continue;
+
+            plugin.getTaskScheduler().runForEntityLater(viewer, () -> {
+                // Try to get update lock for this player
+                AtomicBoolean lock = updateLocks.computeIfAbsent(viewerId, k -> new AtomicBoolean(false));
+
+                // Only update if not currently updating
+                if (lock.compareAndSet(false, true)) {
+                    try {
+                        updateGui(viewer, spawner);
+                    } finally {
+                        // Always release lock
+                        lock.set(false);
                     }
                 }
-            }
-        }, UPDATE_DELAY);
+            }, UPDATE_DELAY);
+        }
     }
 
     private void updateGui(Player player, SpawnerData spawner) {
@@ -576,7 +585,7 @@ public class SpawnerStackerHandler implements Listener {
         for (UUID viewerId : viewersCopy) {
             Player viewer = plugin.getServer().getPlayer(viewerId);
             if (viewer != null && viewer.isOnline()) {
-                viewer.closeInventory();
+                plugin.getTaskScheduler().executeForEntity(viewer, viewer::closeInventory);
             }
         }
     }
@@ -3,7 +3,6 @@ package me.nighter.smartSpawner.spawner.gui.storage;
 import me.nighter.smartSpawner.*;
 import me.nighter.smartSpawner.spawner.gui.main.SpawnerMenuUI;
 import me.nighter.smartSpawner.spawner.gui.storage.utils.*;
-import me.nighter.smartSpawner.spawner.gui.synchronization.SpawnerGuiViewManager;
 import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
 import me.nighter.smartSpawner.holders.StoragePageHolder;
 import me.nighter.smartSpawner.utils.ConfigManager;
@@ -33,7 +32,6 @@ public class SpawnerStorageAction implements Listener {
     private final LanguageManager languageManager;
     private final SpawnerMenuUI spawnerMenuUI;
     private final SpawnerStorageUI spawnerStorageUI;
-    private final SpawnerGuiViewManager spawnerGuiViewManager;
 
     private static final int INVENTORY_SIZE = 54;
     private static final int STORAGE_SLOTS = 45;
@@ -52,7 +50,6 @@ public class SpawnerStorageAction implements Listener {
         this.clickHandlers = initializeClickHandlers();
         this.spawnerMenuUI = plugin.getSpawnerMenuUI();
         this.spawnerStorageUI = plugin.getSpawnerStorageUI();
-        this.spawnerGuiViewManager = plugin.getSpawnerGuiManager();
     }
 
     private Map<ClickType, ItemClickHandler> initializeClickHandlers() {
@@ -108,15 +105,11 @@ public class SpawnerStorageAction implements Listener {
                 playerInv,
                 virtualInv
         );
-        int oldTotalPages = calculateTotalPages(spawner);
         if (result.getAmountMoved() > 0) {
             updateInventorySlot(sourceInv, slot, item, result.getAmountMoved());
             virtualInv.removeItems(result.getMovedItems());
             player.updateInventory();
 
-            // Update hologram and recalculate pages after item removal
-            spawner.updateHologramData();
-
             // Synchronize total pages after item removal
             StoragePageHolder holder = (StoragePageHolder) sourceInv.getHolder();
             if (holder != null) {
@@ -124,13 +117,8 @@ public class SpawnerStorageAction implements Listener {
                 if (newTotalPages != holder.getTotalPages()) {
                     holder.setTotalPages(newTotalPages);
                 }
+                // Open pages, this one included, are refreshed by the storage subscription
                 holder.updateOldUsedSlots();
-                spawnerGuiViewManager.updateStorageGuiViewers(spawner,oldTotalPages,newTotalPages);
-
-                // Check if spawner is at capacity and update if necessary
-                if (spawner.getMaxSpawnerLootSlots() > holder.getOldUsedSlots() && spawner.isAtCapacity()) {
-                    spawner.setAtCapacity(false);
-                }
             }
         } else {
             languageManager.sendMessage(player, "messages.inventory-full");
@@ -138,6 +126,10 @@ public class SpawnerStorageAction implements Listener {
     }
 
     private static void updateInventorySlot(Inventory sourceInv, int slot, ItemStack item, int amountMoved) {
+        if (sourceInv.getHolder() instanceof StoragePageHolder holder) {
+            holder.invalidateSlot(slot);
+        }
+
         if (amountMoved >= item.getAmount()) {
             sourceInv.setItem(slot, null);
             return;
@@ -378,7 +370,6 @@ public class SpawnerStorageAction implements Listener {
         TransferResult result = transferItems(player, sourceInventory, sourceItems, virtualInv);
         sendTransferMessage(player, result);
         player.updateInventory();
-        int oldTotalPages = calculateTotalPages(spawner);
 
         // After items are taken, recalculate pages and update the UI
         if (result.anyItemMoved) {
@@ -392,14 +383,8 @@ public class SpawnerStorageAction implements Listener {
             int currentPage = Math.min(holder.getCurrentPage(), newTotalPages);
             holder.setCurrentPage(currentPage);
 
-            // Update the display and title
-            spawnerGuiViewManager.updateStorageGuiViewers(spawner,oldTotalPages,newTotalPages);
+            // Display and title are refreshed by the storage subscription
             holder.updateOldUsedSlots();
-
-            // Check if spawner is at capacity and update if necessary
-            if (spawner.getMaxSpawnerLootSlots() > holder.getOldUsedSlots() && spawner.isAtCapacity()) {
-                spawner.setAtCapacity(false);
-            }
         }
     }
 
@@ -443,6 +428,7 @@ public class SpawnerStorageAction implements Listener {
 
             if (amountMoved > 0) {
                 totalAmountMoved += amountMoved;
+                ((StoragePageHolder) sourceInventory.getHolder()).invalidateSlot(sourceSlot);
 
                 ItemStack movedItem = itemToMove.clone();
                 movedItem.setAmount(amountMoved);
@@ -466,7 +452,6 @@ public class SpawnerStorageAction implements Listener {
         if (!itemsToRemove.isEmpty()) {
             virtualInv.removeItems(itemsToRemove);
             StoragePageHolder holder = (StoragePageHolder) sourceInventory.getHolder();
-            holder.getSpawnerData().updateHologramData();
             holder.updateOldUsedSlots();
         }
 
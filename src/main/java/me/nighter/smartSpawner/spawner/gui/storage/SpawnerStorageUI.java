@@ -11,7 +11,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -104,40 +103,18 @@ public class SpawnerStorageUI {
             totalPages = calculateTotalPages(spawner);
         }
 
-        // Track both changes and slots that need to be emptied
-        Map<Integer, ItemStack> updates = new HashMap<>();
-        Set<Integer> slotsToEmpty = new HashSet<>();
-
-        // Clear storage area slots first
-        for (int i = 0; i < StoragePageHolder.MAX_ITEMS_PER_PAGE; i++) {
-            slotsToEmpty.add(i);
-        }
+        StoragePageHolder holder = (StoragePageHolder) inventory.getHolder();
+        assert holder != null;
 
-        // Add items from virtual inventory
-        addPageItems(updates, slotsToEmpty, spawner, page);
+        // Only send storage slots whose content actually changed
+        renderPageItems(inventory, holder, spawner, page);
 
         // Add navigation buttons
-        addNavigationButtons(updates, spawner, page, totalPages);
-
-        // Apply all updates in a batch
-        for (int slot : slotsToEmpty) {
-            if (!updates.containsKey(slot)) {
-                inventory.setItem(slot, null);
-            }
-        }
-
-        for (Map.Entry<Integer, ItemStack> entry : updates.entrySet()) {
-            inventory.setItem(entry.getKey(), entry.getValue());
-        }
-
-        // Update hologram if enabled
-        if (configManager.isHologramEnabled()) {
-            spawner.updateHologramData();
-        }
+        Map<Integer, ItemStack> buttons = new HashMap<>();
+        addNavigationButtons(buttons, spawner, page, totalPages);
+        renderNavigationButtons(inventory, holder, buttons);
 
         // Check if we need to update total pages
-        StoragePageHolder holder = (StoragePageHolder) inventory.getHolder();
-        assert holder != null;
         int oldUsedSlots = holder.getOldUsedSlots();
         int currentUsedSlots = spawner.getVirtualInventory().getUsedSlots();
 
@@ -149,29 +126,43 @@ public class SpawnerStorageUI {
         }
     }
 
-    private void addPageItems(Map<Integer, ItemStack> updates, Set<Integer> slotsToEmpty,
-                              SpawnerData spawner, int page) {
+    private void renderPageItems(Inventory inventory, StoragePageHolder holder, SpawnerData spawner, int page) {
         // Get display items directly from virtual inventory
         VirtualInventory virtualInv = spawner.getVirtualInventory();
         Map<Integer, ItemStack> displayItems = virtualInv.getDisplayInventory();
 
-        if (displayItems.isEmpty()) {
-            return;
-        }
-
         // Calculate start index for current page
         int startIndex = (page - 1) * StoragePageHolder.MAX_ITEMS_PER_PAGE;
 
-        // Add items for this page
-        for (Map.Entry<Integer, ItemStack> entry : displayItems.entrySet()) {
-            int globalIndex = entry.getKey();
+        for (int slot = 0; slot < StoragePageHolder.MAX_ITEMS_PER_PAGE; slot++) {
+            int globalIndex = startIndex + slot;
+            ItemStack item = displayItems.get(globalIndex);
+            VirtualInventory.ItemSignature signature = item != null ? virtualInv.getDisplaySignature(globalIndex) : null;
+            int amount = item != null ? item.getAmount() : 0;
 
-            // Check if item belongs on this page
-            if (globalIndex >= startIndex && globalIndex < startIndex + StoragePageHolder.MAX_ITEMS_PER_PAGE) {
-                int displaySlot = globalIndex - startIndex;
-                updates.put(displaySlot, entry.getValue());
-                slotsToEmpty.remove(displaySlot);
+            // Skip the clone and slot packet when the cell still shows the same item and amount
+            if (holder.isSlotRendered(slot, signature, amount)) {
+                continue;
             }
+
+            inventory.setItem(slot, item);
+            holder.markSlotRendered(slot, signature, amount);
+        }
+    }
+
+    private void renderNavigationButtons(Inventory inventory, StoragePageHolder holder, Map<Integer, ItemStack> buttons) {
+        int firstSlot = NAVIGATION_ROW * 9;
+        for (int i = 0; i < StoragePageHolder.NAVIGATION_SLOTS; i++) {
+            ItemStack button = buttons.get(firstSlot + i);
+            ItemStack rendered = holder.getRenderedButton(i);
+
+            // Buttons come from shared caches, so an unchanged button is the same instance
+            if (button == rendered) {
+                continue;
+            }
+
+            inventory.setItem(firstSlot + i, button);
+            holder.markButtonRendered(i, button);
         }
     }
 
@@ -295,12 +286,7 @@ public class SpawnerStorageUI {
     }
 
     private void startCleanupTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                cleanupCaches();
-            }
-        }.runTaskTimer(plugin, 20L * 30, 20L * 30); // Run every 30 seconds
+        plugin.getTaskScheduler().runGlobalTimer(this::cleanupCaches, 20L * 30, 20L * 30); // Run every 30 seconds
     }
 
     private void cleanupCaches() {
@@ -5,9 +5,12 @@ import me.nighter.smartSpawner.holders.SpawnerMenuHolder;
 import me.nighter.smartSpawner.holders.StoragePageHolder;
 import me.nighter.smartSpawner.spawner.gui.storage.SpawnerStorageUI;
 import me.nighter.smartSpawner.spawner.properties.SpawnerData;
+import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
+import me.nighter.smartSpawner.spawner.properties.utils.HandleTable;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.ItemUpdater;
 import me.nighter.smartSpawner.utils.LanguageManager;
+import me.nighter.smartSpawner.utils.scheduler.ScheduledTask;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -22,7 +25,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -44,10 +46,14 @@ public class SpawnerGuiViewManager implements Listener {
 
     // Data structures to track viewers
     private final Map<UUID, SpawnerData> playerToSpawnerMap; // Player UUID -> SpawnerData
-    private final Map<String, Set<UUID>> spawnerToPlayersMap; // SpawnerID -> Set of Player UUIDs
+    private final HandleTable<Set<UUID>> spawnerToPlayersMap; // Spawner handle -> Set of Player UUIDs
+    // Storage subscriptions of spawners that were viewed, kept until the handle is released
+    private final HandleTable<VirtualInventory.ChangeListener> inventoryListeners = new HandleTable<>();
+    // Used slots before the first change of a refresh that is still queued, later changes join it
+    private final HandleTable<Integer> pendingRefreshes = new HandleTable<>();
     private final Set<Class<? extends InventoryHolder>> validHolderTypes;
 
-    private BukkitTask updateTask;
+    private ScheduledTask updateTask;
     private volatile boolean isTaskRunning;
     private long previousExpValue = 0;
 
@@ -57,7 +63,7 @@ public class SpawnerGuiViewManager implements Listener {
         this.languageManager = plugin.getLanguageManager();
         this.spawnerStorageUI = new SpawnerStorageUI(plugin);
         this.playerToSpawnerMap = new ConcurrentHashMap<>();
-        this.spawnerToPlayersMap = new ConcurrentHashMap<>();
+        this.spawnerToPlayersMap = new HandleTable<>();
         this.isTaskRunning = false;
         this.validHolderTypes = Set.of(
                 SpawnerMenuHolder.class,
@@ -74,7 +80,7 @@ public class SpawnerGuiViewManager implements Listener {
             return;
         }
 
-        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateGuiForSpawnerInfo,
+        updateTask = plugin.getTaskScheduler().runGlobalTimer(this::updateGuiForSpawnerInfo,
                 INITIAL_DELAY_TICKS, UPDATE_INTERVAL_TICKS);
         isTaskRunning = true;
 
@@ -114,23 +120,36 @@ public class SpawnerGuiViewManager implements Listener {
 
     public void trackViewer(UUID playerId, SpawnerData spawner) {
         playerToSpawnerMap.put(playerId, spawner);
-        spawnerToPlayersMap.computeIfAbsent(spawner.getSpawnerId(), k -> ConcurrentHashMap.newKeySet())
-                .add(playerId);
+        Set<UUID> viewers = spawnerToPlayersMap.get(spawner.getHandle());
+        if (viewers == null) {
+            Set<UUID> created = ConcurrentHashMap.newKeySet();
+            viewers = spawnerToPlayersMap.putIfAbsent(spawner.getHandle(), created);
+            if (viewers == null) viewers = created;
+        }
+        viewers.add(playerId);
+        subscribe(spawner);
 
         if (!isTaskRunning) {
             startUpdateTask();
         }
     }
 
+    private void subscribe(SpawnerData spawner) {
+        int handle = spawner.getHandle();
+        if (handle < 0 || inventoryListeners.containsKey(handle)) return;
+
+        VirtualInventory.ChangeListener listener = (inventory, change) -> onInventoryChange(spawner, change);
+        if (inventoryListeners.putIfAbsent(handle, listener) == null) {
+            spawner.addInventoryListener(listener);
+        }
+    }
+
     public void untrackViewer(UUID playerId) {
         SpawnerData spawner = playerToSpawnerMap.remove(playerId);
         if (spawner != null) {
-            Set<UUID> viewers = spawnerToPlayersMap.get(spawner.getSpawnerId());
+            Set<UUID> viewers = spawnerToPlayersMap.get(spawner.getHandle());
             if (viewers != null) {
                 viewers.remove(playerId);
-                if (viewers.isEmpty()) {
-                    spawnerToPlayersMap.remove(spawner.getSpawnerId());
-                }
             }
         }
 
@@ -140,13 +159,15 @@ public class SpawnerGuiViewManager implements Listener {
         }
     }
 
-    public Set<Player> getViewers(String spawnerId) {
-        Set<UUID> viewerIds = spawnerToPlayersMap.get(spawnerId);
+    // A viewer only counts while it is still tracked on this exact spawner, a reused handle can't leak old viewers
+    public Set<Player> getViewers(SpawnerData spawner) {
+        Set<UUID> viewerIds = spawnerToPlayersMap.get(spawner.getHandle());
         if (viewerIds == null || viewerIds.isEmpty()) {
             return Collections.emptySet();
         }
 
         return viewerIds.stream()
+                .filter(playerId -> playerToSpawnerMap.get(playerId) == spawner)
                 .map(Bukkit::getPlayer)
                 .filter(Objects::nonNull)
                 .filter(Player::isOnline)
@@ -154,13 +175,50 @@ public class SpawnerGuiViewManager implements Listener {
     }
 
     public boolean hasViewers(SpawnerData spawner) {
-        Set<UUID> viewers = spawnerToPlayersMap.get(spawner.getSpawnerId());
+        Set<UUID> viewers = spawnerToPlayersMap.get(spawner.getHandle());
         return viewers != null && !viewers.isEmpty();
     }
 
+    // Called before the spawner's handle is released, the viewer set and subscription are keyed by it
+    public void releaseSpawner(SpawnerData spawner) {
+        int handle = spawner.getHandle();
+        spawnerToPlayersMap.remove(handle);
+        pendingRefreshes.remove(handle);
+        VirtualInventory.ChangeListener listener = inventoryListeners.remove(handle);
+        if (listener != null) {
+            spawner.removeInventoryListener(listener);
+        }
+    }
+
+    // Every storage change refreshes open storage pages and menus, whoever made it. Changes arriving
+    // before the queued refresh ran are folded into it, so a burst of transfers redraws once
+    private void onInventoryChange(SpawnerData spawner, VirtualInventory.InventoryChange change) {
+        if (!hasViewers(spawner)) return;
+
+        int handle = spawner.getHandle();
+        int oldUsedSlots = spawner.getVirtualInventory().getUsedSlots() - change.usedSlotsDelta();
+        if (handle >= 0 && pendingRefreshes.putIfAbsent(handle, oldUsedSlots) != null) return;
+
+        plugin.getTaskScheduler().runGlobal(() -> {
+            Integer queuedUsedSlots = pendingRefreshes.remove(handle);
+            int oldTotalPages = calculateTotalPages(queuedUsedSlots != null ? queuedUsedSlots : oldUsedSlots);
+            int newTotalPages = calculateTotalPages(spawner.getVirtualInventory().getUsedSlots());
+            updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
+
+            for (Player viewer : getViewers(spawner)) {
+                plugin.getTaskScheduler().runForEntity(viewer, () -> {
+                    if (viewer.isOnline() && viewer.getOpenInventory().getTopInventory().getHolder() instanceof SpawnerMenuHolder) {
+                        updateSpawnerMenuGui(viewer, spawner, true);
+                    }
+                });
+            }
+        });
+    }
+
     public void clearAllTrackedGuis() {
         playerToSpawnerMap.clear();
         spawnerToPlayersMap.clear();
+        pendingRefreshes.clear();
         if (configManager.isDebugEnabled()) {
             plugin.getLogger().info("Cleared all tracked spawner GUIs");
         }
@@ -195,8 +253,8 @@ public class SpawnerGuiViewManager implements Listener {
     public void onInventoryClose(InventoryCloseEvent event) {
         if (!(event.getPlayer() instanceof Player player)) return;
 
-        // Use runTask to check if player has another valid inventory open after closing this one
-        Bukkit.getScheduler().runTask(plugin, () -> {
+        // Check on the next tick if player has another valid inventory open after closing this one
+        plugin.getTaskScheduler().runForEntity(player, () -> {
             if (!player.isOnline()) return;
 
             Inventory openInv = player.getOpenInventory().getTopInventory();
@@ -235,16 +293,18 @@ public class SpawnerGuiViewManager implements Listener {
                 continue;
             }
 
-            Inventory openInventory = player.getOpenInventory().getTopInventory();
-            if (openInventory.getHolder() instanceof SpawnerMenuHolder) {
-                if (!spawner.isAtCapacity()) {
-                    updateSpawnerGuiInfo(player, spawner, false);
+            // Open inventories belong to the player, so they are read on the player's own thread
+            plugin.getTaskScheduler().executeForEntity(player, () -> {
+                Inventory openInventory = player.getOpenInventory().getTopInventory();
+                if (openInventory.getHolder() instanceof SpawnerMenuHolder) {
+                    if (!spawner.isAtCapacity()) {
+                        updateSpawnerGuiInfo(player, spawner, false);
+                    }
+                } else if (!(openInventory.getHolder() instanceof StoragePageHolder)) {
+                    // If inventory is neither SpawnerMenuHolder nor StoragePageHolder, untrack
+                    untrackViewer(playerId);
                 }
-            } else if (!(openInventory.getHolder() instanceof StoragePageHolder)) {
-                // If inventory is neither SpawnerMenuHolder nor StoragePageHolder, untrack
-                iterator.remove();
-                untrackViewer(playerId);
-            }
+            });
         }
     }
 
@@ -253,27 +313,26 @@ public class SpawnerGuiViewManager implements Listener {
     // ===============================================================
 
     public void updateSpawnerMenuViewers(SpawnerData spawner) {
-        Set<Player> viewers = getViewers(spawner.getSpawnerId());
+        Set<Player> viewers = getViewers(spawner);
         if (viewers.isEmpty()) return;
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            for (Player viewer : viewers) {
-                if (!viewer.isOnline()) continue;
+        for (Player viewer : viewers) {
+            plugin.getTaskScheduler().runForEntity(viewer, () -> {
+                if (!viewer.isOnline()) return;
 
                 Inventory openInv = viewer.getOpenInventory().getTopInventory();
-                if (openInv == null) continue;
+                if (openInv == null) return;
 
                 InventoryHolder holder = openInv.getHolder();
                 if (holder instanceof SpawnerMenuHolder) {
                     updateSpawnerMenuGui(viewer, spawner, true);
-                } else if (holder instanceof StoragePageHolder) {
-                    StoragePageHolder storageHolder = (StoragePageHolder) holder;
+                } else if (holder instanceof StoragePageHolder storageHolder) {
                     int oldTotalPages = calculateTotalPages(storageHolder.getOldUsedSlots());
                     int newTotalPages = calculateTotalPages(spawner.getVirtualInventory().getUsedSlots());
-                    updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
+                    updateStorageViewer(viewer, spawner, newTotalPages, oldTotalPages != newTotalPages);
                 }
-            }
-        });
+            });
+        }
     }
 
     private int calculateTotalPages(int totalItems) {
@@ -443,72 +502,58 @@ public class SpawnerGuiViewManager implements Listener {
     //                      Storage GUI Update
     // ===============================================================
 
-    private record UpdateAction(Player player, SpawnerData spawner, int page, int totalPages, boolean requiresNewInventory) {}
-
     public void updateStorageGuiViewers(SpawnerData spawner, int oldTotalPages, int newTotalPages) {
         // Check if total pages changed
         boolean pagesChanged = oldTotalPages != newTotalPages;
 
-        // Batch all viewers that need updates
-        List<UpdateAction> updateQueue = new ArrayList<>();
-
-        Set<Player> viewers = getViewers(spawner.getSpawnerId());
-        for (Player player : viewers) {
-            if (!player.isOnline()) continue;
-
-            Inventory currentInv = player.getOpenInventory().getTopInventory();
-            if (currentInv.getHolder() instanceof StoragePageHolder) {
-                StoragePageHolder holder = (StoragePageHolder) currentInv.getHolder();
-                int currentPage = holder.getCurrentPage();
-
-                boolean needsNewInventory = false;
-                int targetPage = currentPage;
-
-                // Determine if we need a new inventory
-                if (currentPage > newTotalPages) {
-                    // if current page is out of bounds, set to last page
-                    targetPage = newTotalPages;
-                    holder.setCurrentPage(targetPage);
-                    needsNewInventory = true;
-                } else if (pagesChanged) {
-                    // If total pages changed but current page is still valid, update current page
-                    needsNewInventory = true;
-                }
+        // Each viewer is updated on its own thread, on a single threaded server all in the next tick
+        for (Player player : getViewers(spawner)) {
+            plugin.getTaskScheduler().runForEntity(player,
+                    () -> updateStorageViewer(player, spawner, newTotalPages, pagesChanged));
+        }
+    }
 
-                updateQueue.add(new UpdateAction(player, spawner, targetPage, newTotalPages, needsNewInventory));
-            }
+    private void updateStorageViewer(Player player, SpawnerData spawner, int newTotalPages, boolean pagesChanged) {
+        if (!player.isOnline()) return;
+
+        Inventory currentInv = player.getOpenInventory().getTopInventory();
+        if (!(currentInv.getHolder() instanceof StoragePageHolder holder)) return;
+
+        int targetPage = holder.getCurrentPage();
+        boolean needsNewInventory = false;
+
+        // Determine if we need a new inventory
+        if (targetPage > newTotalPages) {
+            // if current page is out of bounds, set to last page
+            targetPage = newTotalPages;
+            holder.setCurrentPage(targetPage);
+            needsNewInventory = true;
+        } else if (pagesChanged) {
+            // If total pages changed but current page is still valid, update current page
+            needsNewInventory = true;
         }
 
-        // Process all updates in one server tick
-        if (!updateQueue.isEmpty()) {
-            Bukkit.getScheduler().runTask(plugin, () -> {
-                for (UpdateAction action : updateQueue) {
-                    if (action.requiresNewInventory) {
-                        try {
-                            // Update inventory title and contents
-                            String newTitle = languageManager.getGuiTitle("gui-title.loot-menu") + " - [" + action.page + "/" + action.totalPages + "]";
-                            action.player.getOpenInventory().setTitle(newTitle);
-                            Inventory currentInv = action.player.getOpenInventory().getTopInventory();
-                            spawnerStorageUI.updateDisplay(currentInv, action.spawner, action.page, action.totalPages);
-                        } catch (Exception e) {
-                            // Fall back to creating a new inventory
-                            Inventory newInv = spawnerStorageUI.createInventory(
-                                    action.spawner,
-                                    languageManager.getGuiTitle("gui-title.loot-menu"),
-                                    action.page,
-                                    action.totalPages
-                            );
-                            action.player.closeInventory();
-                            action.player.openInventory(newInv);
-                        }
-                    } else {
-                        // Just update contents of current inventory
-                        Inventory currentInv = action.player.getOpenInventory().getTopInventory();
-                        spawnerStorageUI.updateDisplay(currentInv, action.spawner, action.page, action.totalPages);
-                        action.player.updateInventory();
-                    }
-                }
-            });
+        if (needsNewInventory) {
+            try {
+                // Update inventory title and contents
+                String newTitle = languageManager.getGuiTitle("gui-title.loot-menu") + " - [" + targetPage + "/" + newTotalPages + "]";
+                player.getOpenInventory().setTitle(newTitle);
+                spawnerStorageUI.updateDisplay(player.getOpenInventory().getTopInventory(), spawner, targetPage, newTotalPages);
+            } catch (Exception e) {
+                // Fall back to creating a new inventory
+                Inventory newInv = spawnerStorageUI.createInventory(
+                        spawner,
+                        languageManager.getGuiTitle("gui-title.loot-menu"),
+                        targetPage,
+                        newTotalPages
+                );
+                player.closeInventory();
+                player.openInventory(newInv);
+            }
+        } else {
+            // Just update contents of current inventory
+            spawnerStorageUI.updateDisplay(currentInv, spawner, targetPage, newTotalPages);
+            player.updateInventory();
         }
     }
 
@@ -518,11 +563,11 @@ public class SpawnerGuiViewManager implements Listener {
 
     public void closeAllViewersInventory(SpawnerData spawner) {
         String spawnerId = spawner.getSpawnerId();
-        Set<Player> viewers = getViewers(spawnerId);
+        Set<Player> viewers = getViewers(spawner);
         if (!viewers.isEmpty()) {
             for (Player viewer : viewers) {
                 if (viewer != null && viewer.isOnline()) {
-                    viewer.closeInventory();
+                    plugin.getTaskScheduler().executeForEntity(viewer, viewer::closeInventory);
                 }
             }
         }
@@ -232,6 +232,9 @@ public class SpawnerClickManager implements Listener {
 
         // Get or create spawner data
         SpawnerData spawner = getOrCreateSpawnerData(block, player);
+        if (spawner == null) {
+            return;
+        }
 
         // Check permission on claimed land
         if (!CheckOpenMenu.CanPlayerOpenMenu(player.getUniqueId(), block.getLocation())) {
@@ -257,11 +260,18 @@ public class SpawnerClickManager implements Listener {
 
     /**
      * Gets existing spawner data or creates a new one
+     *
+     * @return The spawner, or null if the player may not own another spawner
      */
     private SpawnerData getOrCreateSpawnerData(Block block, Player player) {
         SpawnerData spawner = spawnerManager.getSpawnerByLocation(block.getLocation());
 
         if (spawner == null) {
+            // The activating player becomes the owner, so their limits apply
+            if (!spawnerManager.canOwnAnotherSpawner(player)) {
+                languageManager.sendMessage(player, "messages.spawner-limit");
+                return null;
+            }
             // Create new spawner if it doesn't exist
             spawner = createNewSpawner(block, player);
         } else if (spawner.getEntityType() == null) {
@@ -291,8 +301,8 @@ public class SpawnerClickManager implements Listener {
      * Creates a new spawner with default settings
      */
     private SpawnerData createNewSpawner(Block block, Player player) {
-        // Generate short unique ID
-        String spawnerId = UUID.randomUUID().toString().substring(0, 8);
+        // Generate a unique ID
+        String spawnerId = spawnerManager.generateSpawnerId();
 
         // Update the block state
         CreatureSpawner creatureSpawner = (CreatureSpawner) block.getState();
@@ -310,6 +320,7 @@ public class SpawnerClickManager implements Listener {
         // Create and save spawner data
         SpawnerData spawner = new SpawnerData(spawnerId, block.getLocation(), entityType, plugin);
         spawner.setSpawnerActive(true);
+        spawner.setOwnerId(player.getUniqueId());
 
         spawnerManager.addSpawner(spawnerId, spawner);
         spawnerManager.queueSpawnerForSaving(spawnerId);
@@ -364,8 +375,7 @@ public class SpawnerClickManager implements Listener {
      * Initializes the periodic cooldown cleanup task
      */
     private void initCleanupTask() {
-        plugin.getServer().getScheduler().runTaskTimer(
-                plugin,
+        plugin.getTaskScheduler().runGlobalTimer(
                 this::cleanupCooldowns,
                 CLEANUP_INTERVAL_TICKS,
                 CLEANUP_INTERVAL_TICKS
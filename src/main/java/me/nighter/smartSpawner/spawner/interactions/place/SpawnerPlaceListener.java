@@ -7,7 +7,6 @@ import me.nighter.smartSpawner.spawner.properties.SpawnerData;
 import me.nighter.smartSpawner.spawner.properties.SpawnerManager;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.LanguageManager;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -24,8 +23,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BlockStateMeta;
 import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.UUID;
-
 /**
  * Handles spawner placement events, including entity type inheritance
  * and activation behavior.
@@ -85,6 +82,13 @@ public class SpawnerPlaceListener implements Listener {
             storedEntityType = storedState.getSpawnedType();
         }
 
+        // Enforce per-player limits before the spawner is set up, only activated spawners get an owner
+        if (configManager.getActivateOnPlace() && !spawnerManager.canOwnAnotherSpawner(player)) {
+            event.setCancelled(true);
+            languageManager.sendMessage(player, "messages.spawner-limit");
+            return;
+        }
+
         // Handle spawner initialization asynchronously
         initializeSpawner(block, player, storedEntityType);
 
@@ -106,7 +110,7 @@ public class SpawnerPlaceListener implements Listener {
      */
     private void initializeSpawner(Block block, Player player, EntityType storedEntityType) {
         // Run this with a longer delay to ensure block state is fully initialized
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        plugin.getTaskScheduler().runAtLocationLater(block.getLocation(), () -> {
             BlockState blockState = block.getState();
             if (!(blockState instanceof CreatureSpawner)) {
                 return;
@@ -127,7 +131,7 @@ public class SpawnerPlaceListener implements Listener {
                 languageManager.sendMessage(player, "messages.entity-spawner-placed");
 
                 // Double-check entity type after a short delay
-                Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                plugin.getTaskScheduler().runAtLocationLater(block.getLocation(), () -> {
                     BlockState recheckedState = block.getState();
                     if (recheckedState instanceof CreatureSpawner) {
                         CreatureSpawner recheckedSpawner = (CreatureSpawner) recheckedState;
@@ -180,7 +184,7 @@ public class SpawnerPlaceListener implements Listener {
      * @param entityType The entity type for the spawner
      */
     private void createSmartSpawner(Block block, Player player, EntityType entityType) {
-        String spawnerId = UUID.randomUUID().toString().substring(0, 8);
+        String spawnerId = spawnerManager.generateSpawnerId();
 
         // Ensure the block state is properly updated
         BlockState state = block.getState();
@@ -193,6 +197,7 @@ public class SpawnerPlaceListener implements Listener {
         // Create and configure new spawner
         SpawnerData spawner = new SpawnerData(spawnerId, block.getLocation(), entityType, plugin);
         spawner.setSpawnerActive(true);
+        spawner.setOwnerId(player.getUniqueId());
 
         // Register with manager
         spawnerManager.addSpawner(spawnerId, spawner);
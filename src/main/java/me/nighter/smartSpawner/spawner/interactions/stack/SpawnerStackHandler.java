@@ -17,7 +17,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BlockStateMeta;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Map;
 import java.util.Optional;
@@ -48,16 +47,13 @@ public class SpawnerStackHandler {
     }
 
     private void startCleanupTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                long now = System.currentTimeMillis();
-                // Clear entries older than 10 seconds
-                lastStackTime.entrySet().removeIf(entry -> now - entry.getValue() > 10000);
-                // Remove locks for offline players
-                stackLocks.entrySet().removeIf(entry -> plugin.getServer().getPlayer(entry.getValue()) == null);
-            }
-        }.runTaskTimer(plugin, 200L, 200L); // Run every 10 seconds
+        plugin.getTaskScheduler().runGlobalTimer(() -> {
+            long now = System.currentTimeMillis();
+            // Clear entries older than 10 seconds
+            lastStackTime.entrySet().removeIf(entry -> now - entry.getValue() > 10000);
+            // Remove locks for offline players
+            stackLocks.entrySet().removeIf(entry -> plugin.getServer().getPlayer(entry.getValue()) == null);
+        }, 200L, 200L); // Run every 10 seconds
     }
 
     public void handleSpawnerStacking(Player player, Block block, SpawnerData spawnerData, ItemStack itemInHand) {
@@ -132,7 +128,16 @@ public class SpawnerStackHandler {
             return false;
         }
 
-        return processStackAddition(player, targetSpawner, itemInHand, stackAll, currentStack, maxStackSize);
+        // Verify the owner's limit across all of their spawners
+        int allowance = plugin.getSpawnerManager().getStackAllowance(targetSpawner, player);
+        if (allowance <= 0) {
+            languageManager.sendMessage(player, "messages.stack-limit-owner",
+                    "%limit%", String.valueOf(configManager.getMaxStackedPerPlayer()));
+            return false;
+        }
+
+        return processStackAddition(player, targetSpawner, itemInHand, stackAll, currentStack,
+                (int) Math.min(maxStackSize, (long) currentStack + allowance));
     }
 
     private boolean hasStackPermissions(Player player, Location location) {
@@ -204,7 +209,8 @@ public class SpawnerStackHandler {
         int amountToStack = stackAll ? Math.min(spaceLeft, itemAmount) : 1;
         int newStack = currentStack + amountToStack;
 
-        // Update spawner data
+        // Update spawner data, an ownerless spawner becomes the stacking player's
+        plugin.getSpawnerManager().claimOwnership(targetSpawner, player);
         targetSpawner.setStackSize(newStack);
         if (targetSpawner.isAtCapacity()) {
             targetSpawner.setAtCapacity(false);
@@ -1,8 +1,6 @@
 package me.nighter.smartSpawner.spawner.lootgen;
 
 import me.nighter.smartSpawner.SmartSpawner;
-import me.nighter.smartSpawner.holders.SpawnerMenuHolder;
-import me.nighter.smartSpawner.holders.StoragePageHolder;
 import me.nighter.smartSpawner.nms.ParticleWrapper;
 import me.nighter.smartSpawner.spawner.gui.synchronization.SpawnerGuiViewManager;
 import me.nighter.smartSpawner.spawner.properties.SpawnerData;
@@ -12,8 +10,6 @@ import me.nighter.smartSpawner.utils.ConfigManager;
 import org.bukkit.*;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.EntityType;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.Damageable;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -23,10 +19,12 @@ import org.bukkit.potion.PotionEffectType;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class SpawnerLootGenerator {
+    private static final int UNIT_STORE_ATTEMPTS = 5;
+    private static final long UNIT_STORE_RETRY_TICKS = 20L;
+
     private final SmartSpawner plugin;
     private final SpawnerGuiViewManager spawnerGuiViewManager;
     private final SpawnerManager spawnerManager;
@@ -226,6 +224,17 @@ public class SpawnerLootGenerator {
     }
 
     public LootResult generateLoot(EntityType entityType, int minMobs, int maxMobs, SpawnerData spawner) {
+        return generateLoot(entityType, minMobs, maxMobs, spawner, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Draws loot for a number of mobs, but stops drawing items once they could need more than
+     * the given number of storage slots. Each drop is counted as if it started a new stack, so
+     * the estimate never falls short of what storing it takes. Exp is drawn for every mob.
+     *
+     * @param slotBudget The storage slots the items may fill
+     */
+    public LootResult generateLoot(EntityType entityType, int minMobs, int maxMobs, SpawnerData spawner, int slotBudget) {
         String entityName = entityType.name().toLowerCase();
         EntityLootConfig config = entityLootConfigs.get(entityName);
 
@@ -250,6 +259,8 @@ public class SpawnerLootGenerator {
         }
 
         // Process each mob individually for accurate drop rates
+        int slotsLeft = slotBudget;
+        draw:
         for (int i = 0; i < mobCount; i++) {
             for (LootItem lootItem : validItems) {
                 if (random.nextDouble() * 100 <= lootItem.chance) {
@@ -257,6 +268,10 @@ public class SpawnerLootGenerator {
                     if (amount > 0) {
                         ItemStack item = lootItem.createItemStack(random, effectNameCache, romanNumeralCache);
                         if (item != null) {
+                            int slots = (amount + item.getMaxStackSize() - 1) / item.getMaxStackSize();
+                            if (slots > slotsLeft) break draw;
+                            slotsLeft -= slots;
+
                             item.setAmount(amount);
                             totalLoot.add(item);
                         }
@@ -288,13 +303,16 @@ public class SpawnerLootGenerator {
             }
 
             // Get exact inventory slot usage
-            AtomicInteger usedSlots = new AtomicInteger(spawner.getVirtualInventory().getUsedSlots());
-            AtomicInteger maxSlots = new AtomicInteger(spawner.getMaxSpawnerLootSlots());
+            int usedSlots = spawner.getVirtualInventory().getUsedSlots();
+            int maxSlots = spawner.getMaxSpawnerLootSlots();
 
             // Check if both inventory and exp are full, only then skip loot generation
-            if (usedSlots.get() >= maxSlots.get() && spawner.getSpawnerExp() >= spawner.getMaxStoredExp()) {
+            if (usedSlots >= maxSlots && spawner.getSpawnerExp() >= spawner.getMaxStoredExp()) {
                 if (!spawner.isAtCapacity()) {
+                    // Puts the spawner to sleep until a sale, take, hopper, exp collection or stack frees room
                     spawner.setAtCapacity(true);
+                } else {
+                    plugin.getRangeChecker().sleepSpawner(spawner);
                 }
                 return; // Skip generation if both exp and inventory are full
             }
@@ -309,7 +327,7 @@ public class SpawnerLootGenerator {
             final String spawnerId = spawner.getSpawnerId();
 
             // Run heavy calculations async and batch updates
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            plugin.getTaskScheduler().runAsync(() -> {
                 // Generate loot with full mob count
                 LootResult loot = generateLoot(entityType, minMobs, maxMobs, spawner);
 
@@ -318,8 +336,8 @@ public class SpawnerLootGenerator {
                     return;
                 }
 
-                // Switch back to main thread for Bukkit API calls
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                // Switch back to the spawner's region thread for Bukkit API calls
+                plugin.getTaskScheduler().runAtLocation(spawner.getSpawnerLocation(), () -> {
                     // Re-acquire the lock for the update phase
                     // This ensures the spawner hasn't been modified (like stack size changes)
                     // between our async calculations and now
@@ -330,83 +348,208 @@ public class SpawnerLootGenerator {
                     }
 
                     try {
-                        // Cache viewers state to avoid multiple checks
-                        boolean hasLootViewers = false;
-                        boolean hasSpawnerViewers = false;
-
-                        Set<Player> viewers = spawnerGuiViewManager.getViewers(spawner.getSpawnerId());
-                        if (!viewers.isEmpty()) {
-                            for (Player viewer : viewers) {
-                                InventoryHolder holder = viewer.getOpenInventory().getTopInventory().getHolder();
-                                if (holder instanceof StoragePageHolder) {
-                                    hasLootViewers = true;
-                                } else if (holder instanceof SpawnerMenuHolder) {
-                                    hasSpawnerViewers = true;
-                                }
-
-                                if (hasLootViewers && hasSpawnerViewers) {
-                                    break;
-                                }
-                            }
+                        LootResult leftover = storeLoot(spawner, loot.getItems(), loot.getExperience());
+                        if (!leftover.getItems().isEmpty()) {
+                            configManager.debug("Spawner " + spawnerId + " is full, "
+                                    + leftover.getItems().size() + " item stacks did not fit");
                         }
+                    } finally {
+                        spawner.getLock().unlock();
+                    }
+                });
+            });
+        } finally {
+            spawner.getLock().unlock();
+        }
+    }
 
-                        // Cache pages calculation
-                        int oldTotalPages = hasLootViewers ? calculateTotalPages(spawner) : 0;
+    /**
+     * Runs one loot draw for a whole cluster unit of adjacent same-type spawners. The first member
+     * owns the timer, the mob count is summed over every member with room and the output is
+     * handed out to the members in order until it fits. Items are only drawn up to the free
+     * slots of those members, so a unit that is filling up draws less instead of discarding.
+     */
+    public void spawnLootToUnit(List<SpawnerData> members) {
+        SpawnerData leader = members.get(0);
+        boolean lockAcquired = leader.getLock().tryLock();
+        if (!lockAcquired) {
+            return;
+        }
 
-                        // Modified approach: Handle items and exp separately
-                        boolean changed = false;
+        try {
+            long currentTime = System.currentTimeMillis();
+            if (currentTime - leader.getLastSpawnTime() < leader.getSpawnDelay()) {
+                return;
+            }
 
-                        // Process experience if there's any to add and not at max
-                        if (loot.getExperience() > 0 && spawner.getSpawnerExp() < spawner.getMaxStoredExp()) {
-                            int currentExp = spawner.getSpawnerExp();
-                            int maxExp = spawner.getMaxStoredExp();
-                            int newExp = Math.min(currentExp + loot.getExperience(), maxExp);
+            List<SpawnerData> open = new ArrayList<>(members.size());
+            int minMobs = 0;
+            int maxMobs = 0;
+            int freeSlots = 0;
+            for (SpawnerData member : members) {
+                if (member.getVirtualInventory().getUsedSlots() >= member.getMaxSpawnerLootSlots()
+                        && member.getSpawnerExp() >= member.getMaxStoredExp()) {
+                    // A full member sleeps and leaves the unit until it has room again
+                    if (!member.isAtCapacity()) {
+                        member.setAtCapacity(true);
+                    } else {
+                        plugin.getRangeChecker().sleepSpawner(member);
+                    }
+                    continue;
+                }
+                open.add(member);
+                minMobs += member.getMinMobs();
+                maxMobs += member.getMaxMobs();
+                freeSlots += Math.max(0, member.getMaxSpawnerLootSlots() - member.getVirtualInventory().getUsedSlots());
+            }
 
-                            if (newExp != currentExp) {
-                                spawner.setSpawnerExp(newExp);
-                                changed = true;
-                            }
-                        }
+            if (open.isEmpty()) {
+                return;
+            }
 
-                        // Re-check max slots as it could have changed
-                        maxSlots.set(spawner.getMaxSpawnerLootSlots());
-                        usedSlots.set(spawner.getVirtualInventory().getUsedSlots());
+            // Every member shares this draw, so none of them is due again before the next one
+            for (SpawnerData member : members) {
+                member.setLastSpawnTime(currentTime);
+            }
 
-                        // Process items if there are any to add and inventory isn't completely full
-                        if (!loot.getItems().isEmpty() && usedSlots.get() < maxSlots.get()) {
-                            List<ItemStack> itemsToAdd = new ArrayList<>(loot.getItems());
+            final EntityType entityType = leader.getEntityType();
+            final int unitMinMobs = minMobs;
+            final int unitMaxMobs = maxMobs;
+            // A stack split between two members can take one slot more than it would whole
+            final int slotBudget = Math.max(0, freeSlots - (open.size() - 1));
 
-                            // Get exact calculation of slots with the new items
-                            int totalRequiredSlots = calculateRequiredSlots(itemsToAdd, spawner.getVirtualInventory());
+            plugin.getTaskScheduler().runAsync(() -> {
+                LootResult loot = generateLoot(entityType, unitMinMobs, unitMaxMobs, leader, slotBudget);
+                if (loot.getItems().isEmpty() && loot.getExperience() == 0) {
+                    return;
+                }
 
-                            // If we'll exceed the limit, limit the items we're adding
-                            if (totalRequiredSlots > maxSlots.get()) {
-                                itemsToAdd = limitItemsToAvailableSlots(itemsToAdd, spawner);
-                            }
+                // Members of a unit share one chunk, so they are all owned by the leader's region
+                plugin.getTaskScheduler().runAtLocation(leader.getSpawnerLocation(),
+                        () -> storeUnitLoot(leader, open, loot.getItems(), loot.getExperience(), UNIT_STORE_ATTEMPTS));
+            });
+        } finally {
+            leader.getLock().unlock();
+        }
+    }
 
-                            if (!itemsToAdd.isEmpty()) {
-                                spawner.getVirtualInventory().addItems(itemsToAdd);
-                                changed = true;
-                            }
-                        }
+    // Hands the loot out to the members in order. The draw fits their free slots, so only members
+    // that were busy, e.g. mid sale, can leave items over, those are offered again a bit later
+    private void storeUnitLoot(SpawnerData leader, List<SpawnerData> open, List<ItemStack> items,
+                               int experience, int attemptsLeft) {
+        List<ItemStack> remainingItems = items;
+        int remainingExp = experience;
+
+        for (SpawnerData member : open) {
+            if (remainingItems.isEmpty() && remainingExp <= 0) break;
+            // Broken or paged out since the draw
+            if (spawnerManager.getSpawnerByHandle(member.getHandle()) != member) continue;
+            if (!member.getLock().tryLock()) continue;
+
+            try {
+                int expBefore = member.getSpawnerExp();
+                LootResult leftover = storeLoot(member, remainingItems, remainingExp);
+                remainingItems = leftover.getItems();
+                remainingExp -= member.getSpawnerExp() - expBefore;
+            } finally {
+                member.getLock().unlock();
+            }
+        }
 
-                        if (!changed) {
-                            return;
-                        }
+        if (remainingItems.isEmpty()) return;
+
+        if (attemptsLeft > 1) {
+            List<ItemStack> retryItems = remainingItems;
+            int retryExp = Math.max(0, remainingExp);
+            plugin.getTaskScheduler().runAtLocationLater(leader.getSpawnerLocation(),
+                    () -> storeUnitLoot(leader, open, retryItems, retryExp, attemptsLeft - 1), UNIT_STORE_RETRY_TICKS);
+        } else {
+            int amount = remainingItems.stream().mapToInt(ItemStack::getAmount).sum();
+            plugin.getLogger().warning("Spawner unit of " + leader.getSpawnerId() + " stayed busy, "
+                    + amount + " items could not be stored and were dropped");
+        }
+    }
 
-                        // Handle GUI updates in batches
-                        handleGuiUpdates(spawner, hasLootViewers, hasSpawnerViewers, oldTotalPages);
+    /**
+     * Adds as much of the loot as fits into the spawner's storage and exp, then refreshes open
+     * views and puts the spawner to sleep if this filled it. Must hold the spawner's lock.
+     *
+     * @return the items that did not fit
+     */
+    private LootResult storeLoot(SpawnerData spawner, List<ItemStack> items, int experience) {
+        // Modified approach: Handle items and exp separately
+        boolean expChanged = false;
+        boolean itemsAdded = false;
+
+        // Process experience if there's any to add and not at max
+        if (experience > 0 && spawner.getSpawnerExp() < spawner.getMaxStoredExp()) {
+            int currentExp = spawner.getSpawnerExp();
+            int maxExp = spawner.getMaxStoredExp();
+            int newExp = Math.min(currentExp + experience, maxExp);
+
+            if (newExp != currentExp) {
+                spawner.setSpawnerExp(newExp);
+                expChanged = true;
+            }
+        }
 
-                        // Mark for saving only once
-                        spawnerManager.markSpawnerModified(spawner.getSpawnerId());
-                    } finally {
-                        spawner.getLock().unlock();
-                    }
-                });
-            });
-        } finally {
-            spawner.getLock().unlock();
+        int maxSlots = spawner.getMaxSpawnerLootSlots();
+        int usedSlots = spawner.getVirtualInventory().getUsedSlots();
+        List<ItemStack> leftover = items;
+
+        // Process items if there are any to add and inventory isn't completely full
+        if (!items.isEmpty() && usedSlots < maxSlots) {
+            List<ItemStack> itemsToAdd = new ArrayList<>(items);
+            leftover = Collections.emptyList();
+
+            // Get exact calculation of slots with the new items
+            int totalRequiredSlots = calculateRequiredSlots(itemsToAdd, spawner.getVirtualInventory());
+
+            // If we'll exceed the limit, limit the items we're adding
+            if (totalRequiredSlots > maxSlots) {
+                List<ItemStack> candidates = itemsToAdd;
+                itemsToAdd = limitItemsToAvailableSlots(candidates, spawner);
+                leftover = getRemainingItems(candidates, itemsToAdd);
+            }
+
+            if (!itemsToAdd.isEmpty()) {
+                spawner.getVirtualInventory().addItems(itemsToAdd);
+                itemsAdded = true;
+            }
+        }
+
+        if (expChanged || itemsAdded) {
+            // Added items refresh open views through the storage subscription, exp alone doesn't
+            handleGuiUpdates(spawner, expChanged && !itemsAdded);
+
+            // Mark for saving only once
+            spawnerManager.markSpawnerModified(spawner.getSpawnerId());
+        }
+
+        // Filled up by this draw, sleep now rather than drawing once more only to find it full
+        if (!spawner.isAtCapacity() && spawner.getVirtualInventory().getUsedSlots() >= maxSlots
+                && spawner.getSpawnerExp() >= spawner.getMaxStoredExp()) {
+            spawner.setAtCapacity(true);
         }
+
+        return new LootResult(leftover, 0);
+    }
+
+    // limitItemsToAvailableSlots accepts a prefix of the sorted candidates, the last one possibly partial
+    private List<ItemStack> getRemainingItems(List<ItemStack> candidates, List<ItemStack> accepted) {
+        List<ItemStack> remaining = new ArrayList<>();
+        int acceptedCount = accepted.size();
+        if (acceptedCount > 0) {
+            ItemStack last = candidates.get(acceptedCount - 1);
+            int rest = last.getAmount() - accepted.get(acceptedCount - 1).getAmount();
+            if (rest > 0) {
+                ItemStack partial = last.clone();
+                partial.setAmount(rest);
+                remaining.add(partial);
+            }
+        }
+        remaining.addAll(candidates.subList(acceptedCount, candidates.size()));
+        return remaining;
     }
 
     private List<ItemStack> limitItemsToAvailableSlots(List<ItemStack> items, SpawnerData spawner) {
@@ -512,8 +655,7 @@ public class SpawnerLootGenerator {
         return totalSlotsNeeded;
     }
 
-    private void handleGuiUpdates(SpawnerData spawner, boolean hasLootViewers,
-                                  boolean hasSpawnerViewers, int oldTotalPages) {
+    private void handleGuiUpdates(SpawnerData spawner, boolean refreshMenus) {
         // Show particles if needed
         if (configManager.isLootSpawnParticlesEnabled()) {
             Location loc = spawner.getSpawnerLocation();
@@ -525,25 +667,8 @@ public class SpawnerLootGenerator {
             }
         }
 
-        // Batch GUI updates
-        if (hasLootViewers) {
-            if (spawner.getVirtualInventory().isDirty()) {
-                int newTotalPages = calculateTotalPages(spawner);
-                spawnerGuiViewManager.updateStorageGuiViewers(spawner, oldTotalPages, newTotalPages);
-            }
-        }
-
-        if (hasSpawnerViewers) {
+        if (refreshMenus && spawnerGuiViewManager.hasViewers(spawner)) {
             spawnerGuiViewManager.updateSpawnerMenuViewers(spawner);
         }
-
-        if (configManager.isHologramEnabled()) {
-            spawner.updateHologramData();
-        }
-    }
-
-    private int calculateTotalPages(SpawnerData spawner) {
-        int usedSlots = spawner.getVirtualInventory().getUsedSlots();
-        return Math.max(1, (int) Math.ceil((double) usedSlots / StoragePageHolder.MAX_ITEMS_PER_PAGE));
     }
 }
\ No newline at end of file
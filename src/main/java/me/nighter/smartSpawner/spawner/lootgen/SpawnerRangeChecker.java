@@ -1,139 +1,738 @@
 package me.nighter.smartSpawner.spawner.lootgen;
 
+import io.papermc.paper.event.player.AsyncChatEvent;
 import me.nighter.smartSpawner.SmartSpawner;
 import me.nighter.smartSpawner.utils.ConfigManager;
+import me.nighter.smartSpawner.utils.scheduler.ScheduledTask;
+import me.nighter.smartSpawner.utils.scheduler.TaskScheduler;
 import me.nighter.smartSpawner.spawner.properties.SpawnerManager;
+import me.nighter.smartSpawner.spawner.properties.utils.HandleTable;
 import me.nighter.smartSpawner.spawner.properties.SpawnerData;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.*;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-public class SpawnerRangeChecker {
-    private static final long CHECK_INTERVAL = 20L; // 1 second in ticks
+/**
+ * Activates spawners based on player positions. Spawners are grouped into clusters by chunk,
+ * each cluster finds the players near it once and its members only test exact distance
+ * against those few players.
+ * <p>
+ * Player positions are recorded on each player's own thread. The global tick only publishes
+ * them as a grid and hands the resulting state changes to the thread owning each spawner.
+ * Range evaluation itself runs on a worker thread.
+ */
+public class SpawnerRangeChecker implements Listener {
+    private static final int CHECK_INTERVAL = 20; // 1 second in ticks
+    private static final double TARGET_TICK_MILLIS = 50.0;
+    private static final int[][] UNIT_NEIGHBOURS = {
+            {1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}
+    };
     private final SmartSpawner plugin;
     private final ConfigManager configManager;
+    private final TaskScheduler scheduler;
     private final SpawnerManager spawnerManager;
     private final SpawnerLootGenerator spawnerLootGenerator;
-    private final Map<String, BukkitTask> spawnerTasks;
-    private final Map<String, Set<UUID>> playersInRange;
+    // Indexed by spawner handle rather than the persistent string ID. The range worker and the
+    // region threads both use these, the tables are safe for that without boxing the handle
+    private final HandleTable<ScheduledTask> spawnerTasks = new HandleTable<>();
+    private final HandleTable<Set<UUID>> playersInRange = new HandleTable<>();
+    private final HandleTable<Long> leftRangeSince = new HandleTable<>();
+    // Active spawners whose storage and exp are both full, they keep no timer until woken
+    private final HandleTable<SpawnerData> sleepingSpawners = new HandleTable<>();
+    // Active spawners kept in range only by AFK players, they run slower or not at all
+    private final HandleTable<SpawnerData> throttledSpawners = new HandleTable<>();
+    private final Map<UUID, Long> lastInput = new ConcurrentHashMap<>();
+    // Last known position of each online player, only written from the player's own thread
+    private final Map<UUID, TrackedPosition> playerPositions = new ConcurrentHashMap<>();
+    // Cluster mode, adjacent same-type spawners share the timer of their unit leader
+    private final HandleTable<SpawnerData> unitLeaders = new HandleTable<>();
+    private final HandleTable<Set<SpawnerData>> unitMembers = new HandleTable<>();
+
+    // Clusters holding at least one active spawner, re-checked every sweep so they can stop again
+    private final Set<Cluster> activeClusters = ConcurrentHashMap.newKeySet();
+    // Clusters touched by player movement, checked on the next evaluation instead of waiting for the sweep
+    private final Set<Cluster> pendingClusters = ConcurrentHashMap.newKeySet();
+    private final Queue<StateChange> stateChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean evaluating = new AtomicBoolean(false);
+
+    private volatile Map<String, PlayerGrid> playerGrids = Collections.emptyMap();
+    private int sweepTick;
+
+    private record Cluster(String worldName, int chunkX, int chunkZ) {}
+
+    private record StateChange(SpawnerData spawner, boolean active) {}
+
+    private record TrackedPosition(String worldName, double x, double y, double z) {}
+
+    private record PlayerPosition(UUID playerId, double x, double y, double z, boolean present) {
+        double distanceSquared(Location location) {
+            double dx = x - location.getX();
+            double dy = y - location.getY();
+            double dz = z - location.getZ();
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * Immutable snapshot of the player positions of one world, bucketed in chunk sized cells.
+     */
+    private static final class PlayerGrid {
+        private final Map<Long, List<PlayerPosition>> cells = new HashMap<>();
+
+        private void add(PlayerPosition position) {
+            long cellKey = SpawnerManager.getChunkKey((int) Math.floor(position.x()) >> 4, (int) Math.floor(position.z()) >> 4);
+            cells.computeIfAbsent(cellKey, k -> new ArrayList<>(2)).add(position);
+        }
+
+        private Set<Long> getOccupiedCells() {
+            return cells.keySet();
+        }
+
+        private List<PlayerPosition> query(double minX, double minZ, double maxX, double maxZ) {
+            List<PlayerPosition> result = null;
+            for (int cx = (int) Math.floor(minX) >> 4; cx <= (int) Math.floor(maxX) >> 4; cx++) {
+                for (int cz = (int) Math.floor(minZ) >> 4; cz <= (int) Math.floor(maxZ) >> 4; cz++) {
+                    List<PlayerPosition> cell = cells.get(SpawnerManager.getChunkKey(cx, cz));
+                    if (cell == null) continue;
+
+                    for (PlayerPosition position : cell) {
+                        if (position.x() >= minX && position.x() <= maxX && position.z() >= minZ && position.z() <= maxZ) {
+                            if (result == null) result = new ArrayList<>();
+                            result.add(position);
+                        }
+                    }
+                }
+            }
+            return result != null ? result : Collections.emptyList();
+        }
+    }
 
     public SpawnerRangeChecker(SmartSpawner plugin) {
         this.plugin = plugin;
         this.configManager = plugin.getConfigManager();
+        this.scheduler = plugin.getTaskScheduler();
         this.spawnerManager = plugin.getSpawnerManager();
         this.spawnerLootGenerator = plugin.getSpawnerLootGenerator();
-        this.spawnerTasks = new ConcurrentHashMap<>();
-        this.playersInRange = new ConcurrentHashMap<>();
+
+        // Nobody is tracked yet, so every spawner starts stopped until a player is found nearby
+        spawnerManager.getAllSpawners().forEach(spawner -> spawner.setSpawnerStop(true));
+        // Players already online after a reload start with a fresh idle timer
+        Bukkit.getOnlinePlayers().forEach(this::recordInput);
+        refreshPlayerPositions();
+
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
         initializeRangeCheckTask();
     }
 
     private void initializeRangeCheckTask() {
-        Bukkit.getScheduler().runTaskTimer(plugin, () ->
-                        spawnerManager.getAllSpawners().forEach(this::updateSpawnerStatus),
-                CHECK_INTERVAL, CHECK_INTERVAL);
+        scheduler.runGlobalTimer(this::tickRangeCheck, 1L, 1L);
     }
 
-    private void updateSpawnerStatus(SpawnerData spawner) {
-        Location spawnerLoc = spawner.getSpawnerLocation();
-        World world = spawnerLoc.getWorld();
+    private void tickRangeCheck() {
+        publishPlayerGrids();
+        applyStateChanges();
+
+        sweepTick++;
+        boolean sweepDue = sweepTick >= CHECK_INTERVAL;
+        if (sweepDue) refreshPlayerPositions();
+        if ((sweepDue || !pendingClusters.isEmpty()) && evaluating.compareAndSet(false, true)) {
+            if (sweepDue) sweepTick = 0;
+            Map<String, PlayerGrid> grids = playerGrids;
+            scheduler.runAsync(() -> {
+                try {
+                    evaluate(grids, sweepDue);
+                } finally {
+                    evaluating.set(false);
+                }
+            });
+        }
+    }
+
+    // Presence is worked out here once per player, spawners only read the flag
+    private void publishPlayerGrids() {
+        boolean afkEnabled = configManager.isAfkThrottlingEnabled();
+        long idleMillis = configManager.getAfkIdleTime() * 1000L;
+        long now = System.currentTimeMillis();
+
+        Map<String, PlayerGrid> grids = new HashMap<>();
+        playerPositions.forEach((playerId, position) -> {
+            boolean present = !afkEnabled || now - lastInput.getOrDefault(playerId, now) <= idleMillis;
+            grids.computeIfAbsent(position.worldName(), k -> new PlayerGrid())
+                    .add(new PlayerPosition(playerId, position.x(), position.y(), position.z(), present));
+        });
+        playerGrids = grids;
+    }
+
+    // Catches movement that fires no move event, such as riding, every read runs on the player's own thread
+    private void refreshPlayerPositions() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            scheduler.runForEntity(player, () -> {
+                if (player.isOnline()) {
+                    trackPosition(player, player.getLocation());
+                }
+            });
+        }
+    }
+
+    private void trackPosition(Player player, Location location) {
+        World world = location != null ? location.getWorld() : null;
         if (world == null) return;
+        playerPositions.put(player.getUniqueId(),
+                new TrackedPosition(world.getName(), location.getX(), location.getY(), location.getZ()));
+    }
+
+    /**
+     * Stops a spawner that was switched off, range checks skip it until it is requeued.
+     */
+    public void disableSpawner(SpawnerData spawner) {
+        spawner.setSpawnerStop(true);
+        stopSpawnerTask(spawner);
+        spawner.removeHologram();
+    }
+
+    /**
+     * Stops a spawner and queues its chunk for the next range evaluation, so it starts again
+     * from scratch if players are nearby. Used after a spawner is switched on or its type changed.
+     */
+    public void requeueSpawner(SpawnerData spawner) {
+        spawner.setSpawnerStop(true);
+        stopSpawnerTask(spawner);
+
+        Location loc = spawner.getSpawnerLocation();
+        if (loc.getWorld() != null) {
+            pendingClusters.add(new Cluster(loc.getWorld().getName(), loc.getBlockX() >> 4, loc.getBlockZ() >> 4));
+        }
+    }
+
+    // Applying changes starts timers and spawns holograms, so it is spread over ticks within a budget.
+    // Each change runs on the thread owning its spawner, which on a single threaded server is this one
+    private void applyStateChanges() {
+        int maxPerTick = configManager.getRangeCheckMaxChangesPerTick();
+        long deadline = System.nanoTime() + getTickBudgetNanos();
+        int processed = 0;
+
+        StateChange change;
+        while ((maxPerTick <= 0 || processed < maxPerTick) && (change = stateChanges.poll()) != null) {
+            processed++;
+            StateChange queued = change;
+            scheduler.executeAtLocation(change.spawner().getSpawnerLocation(), () -> applyStateChange(queued));
+
+            // Always make progress, but stop early once the budget for this tick is used up
+            if (System.nanoTime() >= deadline) break;
+        }
+    }
+
+    private void applyStateChange(StateChange change) {
+        SpawnerData spawner = change.spawner();
+
+        // The spawner may have been broken while the change was queued
+        if (spawnerManager.getSpawnerByHandle(spawner.getHandle()) != spawner) {
+            playersInRange.remove(spawner.getHandle());
+            leftRangeSince.remove(spawner.getHandle());
+            return;
+        }
+
+        // Its chunk unloaded or it was switched off after the change was evaluated,
+        // it is picked up again once the chunk loads or it is switched back on
+        if (change.active() && (isParked(spawner) || !spawner.getSpawnerActive())) {
+            stopSpawnerTask(spawner);
+            return;
+        }
 
-        boolean playerFound = isPlayerInRange(spawner, spawnerLoc, world);
-        boolean shouldStop = !playerFound;
+        if (!change.active()) {
+            spawner.setSpawnerStop(true);
+            deactivateSpawner(spawner);
+        } else if (spawner.getSpawnerStop()) {
+            spawner.setSpawnerStop(false);
+            activateSpawner(spawner);
+        } else if (!sleepingSpawners.containsKey(spawner.getHandle())) {
+            // Already running, only the AFK throttle changed
+            startSpawnerTask(spawner);
+        }
+    }
 
-        if (spawner.getSpawnerStop() != shouldStop) {
-            spawner.setSpawnerStop(shouldStop);
-            handleSpawnerStateChange(spawner, shouldStop);
+    // Shrinks the budget as the average tick time approaches 50ms, down to a quarter when lagging
+    private long getTickBudgetNanos() {
+        double averageTickMillis;
+        try {
+            averageTickMillis = Bukkit.getAverageTickTime();
+        } catch (UnsupportedOperationException e) {
+            // Region threaded servers have no single tick time, the dispatch here is cheap anyway
+            averageTickMillis = 0;
         }
+        double headroom = (TARGET_TICK_MILLIS - averageTickMillis) / (TARGET_TICK_MILLIS / 2);
+        double scale = Math.max(0.25, Math.min(1.0, headroom));
+        return (long) (configManager.getRangeCheckTimeBudget() * 1000L * scale);
+    }
+
+    private int getChunkRadius() {
+        return (configManager.getSpawnerRange() >> 4) + 1;
     }
 
-    private boolean isPlayerInRange(SpawnerData spawner, Location spawnerLoc, World world) {
-        int range = spawner.getSpawnerRange();
-        double rangeSquared = range * range;
-        int chunkRadius = (range >> 4) + 1;
-        int baseX = spawnerLoc.getBlockX() >> 4;
-        int baseZ = spawnerLoc.getBlockZ() >> 4;
+    // Runs on the worker thread, only reads the grid snapshot and the concurrent chunk index
+    private void evaluate(Map<String, PlayerGrid> grids, boolean fullSweep) {
+        Set<Cluster> clusters = new LinkedHashSet<>();
+        for (Iterator<Cluster> it = pendingClusters.iterator(); it.hasNext(); ) {
+            clusters.add(it.next());
+            it.remove();
+        }
+
+        if (fullSweep) {
+            clusters.addAll(activeClusters);
+            int chunkRadius = getChunkRadius();
+            for (Map.Entry<String, PlayerGrid> entry : grids.entrySet()) {
+                for (long cellKey : entry.getValue().getOccupiedCells()) {
+                    collectClusters(entry.getKey(), (int) (cellKey >> 32), (int) cellKey, chunkRadius, clusters);
+                }
+            }
+        }
+
+        for (Cluster cluster : clusters) {
+            evaluateCluster(cluster, grids.get(cluster.worldName()));
+        }
+    }
 
+    private void collectClusters(String worldName, int baseX, int baseZ, int chunkRadius, Set<Cluster> clusters) {
         for (int dx = -chunkRadius; dx <= chunkRadius; dx++) {
             for (int dz = -chunkRadius; dz <= chunkRadius; dz++) {
-                if (!world.isChunkLoaded(baseX + dx, baseZ + dz)) continue;
-
-                if (checkChunkForPlayers(world, spawnerLoc, range, rangeSquared)) {
-                    return true;
+                if (!spawnerManager.getSpawnersInChunk(worldName, baseX + dx, baseZ + dz).isEmpty()) {
+                    clusters.add(new Cluster(worldName, baseX + dx, baseZ + dz));
                 }
             }
         }
-        return false;
     }
 
-    private boolean checkChunkForPlayers(World world, Location spawnerLoc, int range, double rangeSquared) {
-        Collection<Entity> nearbyEntities = world.getNearbyEntities(spawnerLoc, range, range, range,
-                entity -> entity instanceof Player);
+    private void evaluateCluster(Cluster cluster, PlayerGrid grid) {
+        Set<SpawnerData> members = spawnerManager.getSpawnersInChunk(cluster.worldName(), cluster.chunkX(), cluster.chunkZ());
+        if (members.isEmpty() || spawnerManager.isChunkParked(cluster.worldName(), cluster.chunkX(), cluster.chunkZ())) {
+            activeClusters.remove(cluster);
+            return;
+        }
+
+        // One bounding box query for the whole cluster, wide enough for the deactivation radius
+        int margin = Math.max(0, configManager.getRangeCheckDeactivationMargin());
+        int range = configManager.getSpawnerRange() + margin;
+        List<PlayerPosition> candidates = grid == null ? Collections.emptyList() : grid.query(
+                (cluster.chunkX() << 4) - range, (cluster.chunkZ() << 4) - range,
+                (cluster.chunkX() << 4) + 16 + range, (cluster.chunkZ() << 4) + 16 + range);
+
+        long now = System.currentTimeMillis();
+        long dwellMillis = configManager.getRangeCheckDeactivationDelay() * 1000L;
+        boolean anyActive = false;
+        for (SpawnerData spawner : members) {
+            // Switched off spawners stay stopped regardless of nearby players
+            if (!spawner.getSpawnerActive()) continue;
+            anyActive |= updateSpawnerState(spawner, candidates, margin, now, dwellMillis);
+        }
+
+        if (anyActive) {
+            activeClusters.add(cluster);
+        } else {
+            activeClusters.remove(cluster);
+        }
+    }
+
+    /**
+     * Spawners start once a player is within range, but only stop after every player has been
+     * outside range plus the margin for the dwell time, so players standing at the edge
+     * don't restart timers and holograms every second.
+     *
+     * @return whether the spawner is still active
+     */
+    private boolean updateSpawnerState(SpawnerData spawner, List<PlayerPosition> candidates,
+                                       int margin, long now, long dwellMillis) {
+        int handle = spawner.getHandle();
+        Location spawnerLoc = spawner.getSpawnerLocation();
+        double activationSquared = (double) spawner.getSpawnerRange() * spawner.getSpawnerRange();
+        double deactivationSquared = (double) (spawner.getSpawnerRange() + margin) * (spawner.getSpawnerRange() + margin);
+        boolean active = playersInRange.containsKey(handle);
 
-        for (Entity entity : nearbyEntities) {
-            if (entity.getLocation().distanceSquared(spawnerLoc) <= rangeSquared) {
-                return true;
+        Set<UUID> inRange = null;
+        boolean anyPresent = false;
+        for (PlayerPosition position : candidates) {
+            double distanceSquared = position.distanceSquared(spawnerLoc);
+            if (distanceSquared <= activationSquared || (active && distanceSquared <= deactivationSquared)) {
+                if (inRange == null) inRange = ConcurrentHashMap.newKeySet();
+                inRange.add(position.playerId());
+                anyPresent |= position.present();
             }
         }
+
+        if (inRange != null) {
+            leftRangeSince.remove(handle);
+            boolean throttleChanged = anyPresent
+                    ? throttledSpawners.remove(handle) != null
+                    : throttledSpawners.put(handle, spawner) == null;
+            if (playersInRange.put(handle, inRange) == null || throttleChanged) {
+                stateChanges.add(new StateChange(spawner, true));
+            }
+            return true;
+        }
+
+        if (!active) return false;
+
+        Long leftAt = leftRangeSince.putIfAbsent(handle, now);
+        long since = leftAt != null ? leftAt : now;
+        if (now - since < dwellMillis) {
+            playersInRange.put(handle, Collections.emptySet());
+            return true;
+        }
+
+        leftRangeSince.remove(handle);
+        throttledSpawners.remove(handle);
+        playersInRange.remove(handle);
+        stateChanges.add(new StateChange(spawner, false));
         return false;
     }
 
-    private void handleSpawnerStateChange(SpawnerData spawner, boolean shouldStop) {
-        if (!shouldStop) {
-            activateSpawner(spawner);
-        } else {
-            deactivateSpawner(spawner);
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        Player player = event.getPlayer();
+        boolean changedBlock = hasChangedBlock(from, to);
+        // Looking around counts as input, and so does walking into another block unless water or a vehicle carries the player
+        if (to != null && (from.getYaw() != to.getYaw() || from.getPitch() != to.getPitch()
+                || (changedBlock && !player.isInWater() && !player.isInsideVehicle()))) {
+            recordInput(player);
+        }
+        if (changedBlock) {
+            trackPosition(player, to);
+        }
+        if (hasChangedChunk(from, to)) {
+            markAround(from);
+            markAround(to);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        trackPosition(event.getPlayer(), to);
+        if (hasChangedChunk(from, to)) {
+            markAround(from);
+            markAround(to);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        recordInput(event.getPlayer());
+        trackPosition(event.getPlayer(), event.getPlayer().getLocation());
+        markAround(event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        trackPosition(event.getPlayer(), event.getRespawnLocation());
+        markAround(event.getPlayer().getLocation());
+        markAround(event.getRespawnLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        // Clusters left behind in the old world are still active and get stopped by the next sweep
+        trackPosition(event.getPlayer(), event.getPlayer().getLocation());
+        markAround(event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        lastInput.remove(event.getPlayer().getUniqueId());
+        playerPositions.remove(event.getPlayer().getUniqueId());
+        markAround(event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        recordInput(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChat(AsyncChatEvent event) {
+        recordInput(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        recordInput(event.getPlayer());
+    }
+
+    private void recordInput(Player player) {
+        lastInput.put(player.getUniqueId(), System.currentTimeMillis());
+    }
+
+    private boolean hasChangedBlock(Location from, Location to) {
+        if (to == null) return false;
+        return from.getBlockX() != to.getBlockX()
+                || from.getBlockY() != to.getBlockY()
+                || from.getBlockZ() != to.getBlockZ()
+                || from.getWorld() != to.getWorld();
+    }
+
+    private boolean hasChangedChunk(Location from, Location to) {
+        if (to == null) return false;
+        return (from.getBlockX() >> 4) != (to.getBlockX() >> 4)
+                || (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4)
+                || from.getWorld() != to.getWorld();
+    }
+
+    // The grid published on the next tick already holds the new position, so marking is enough
+    private void markAround(Location location) {
+        World world = location != null ? location.getWorld() : null;
+        if (world == null) return;
+        collectClusters(world.getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4,
+                getChunkRadius(), pendingClusters);
+    }
+
+    /**
+     * Stops every spawner of an unloading chunk. They stay out of range checks until the chunk loads again.
+     */
+    public void parkChunk(String worldName, int chunkX, int chunkZ) {
+        Cluster cluster = new Cluster(worldName, chunkX, chunkZ);
+        activeClusters.remove(cluster);
+        pendingClusters.remove(cluster);
+
+        for (SpawnerData spawner : spawnerManager.getSpawnersInChunk(worldName, chunkX, chunkZ)) {
+            spawner.setSpawnerStop(true);
+            stopSpawnerTask(spawner);
+            spawner.removeHologram();
         }
     }
 
+    /**
+     * Queues the spawners of a loaded chunk for the next range evaluation.
+     */
+    public void unparkChunk(String worldName, int chunkX, int chunkZ) {
+        pendingClusters.add(new Cluster(worldName, chunkX, chunkZ));
+    }
+
+    private boolean isParked(SpawnerData spawner) {
+        Location loc = spawner.getSpawnerLocation();
+        return loc.getWorld() != null && spawnerManager.isChunkParked(loc.getWorld().getName(),
+                loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+    }
+
     public void activateSpawner(SpawnerData spawner) {
-        startSpawnerTask(spawner);
+        if (spawner.isAtCapacity()) {
+            sleepSpawner(spawner);
+        } else {
+            startSpawnerTask(spawner);
+        }
         spawner.refreshHologram();
         //configManager.debug("Spawner " + spawner.getSpawnerId() + " activated - Player in range");
     }
 
     private void deactivateSpawner(SpawnerData spawner) {
-        stopSpawnerTask(spawner);
+        cancelSpawnerTask(spawner.getHandle());
+        sleepingSpawners.remove(spawner.getHandle());
+        throttledSpawners.remove(spawner.getHandle());
         spawner.removeHologram();
         //configManager.debug("Spawner " + spawner.getSpawnerId() + " deactivated - No players in range");
     }
 
+    /**
+     * Removes a full spawner from scheduling, it stays active but has no timer until woken.
+     */
+    public void sleepSpawner(SpawnerData spawner) {
+        sleepingSpawners.put(spawner.getHandle(), spawner);
+        cancelSpawnerTask(spawner.getHandle());
+    }
+
+    /**
+     * Restarts the timer of a sleeping spawner once it has room again. Safe to call from any thread.
+     */
+    public void wakeSpawner(SpawnerData spawner) {
+        if (sleepingSpawners.remove(spawner.getHandle()) == null) return;
+
+        scheduler.runAtLocation(spawner.getSpawnerLocation(), () -> {
+            if (!spawner.getSpawnerStop() && !spawner.isAtCapacity()
+                    && !spawnerTasks.containsKey(spawner.getHandle())) {
+                startSpawnerTask(spawner);
+            }
+        });
+    }
+
     private void startSpawnerTask(SpawnerData spawner) {
-        stopSpawnerTask(spawner);
+        cancelSpawnerTask(spawner.getHandle());
+
+        long period = spawner.getSpawnDelay();
+        boolean throttled = throttledSpawners.containsKey(spawner.getHandle());
+        if (throttled) {
+            int slowdown = configManager.getAfkSlowdown();
+            if (slowdown <= 0) return; // Paused until a present player comes back
+            period *= slowdown;
+        } else if (configManager.isClusterModeEnabled()) {
+            startUnitTask(spawner);
+            return;
+        }
 
         spawner.setLastSpawnTime(System.currentTimeMillis() + spawner.getSpawnDelay());
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin,
+        // Runs on the thread owning the spawner's region, so spawners in different regions tick in parallel
+        ScheduledTask task = scheduler.runAtLocationTimer(spawner.getSpawnerLocation(),
                 () -> {
                     if (!spawner.getSpawnerStop()) {
                         spawnerLootGenerator.spawnLootToSpawner(spawner);
                     }
                 },
+                0L, period
+        );
+
+        spawnerTasks.put(spawner.getHandle(), task);
+    }
+
+    /**
+     * Joins a unit of a face adjacent spawner of the same type in the same chunk, or starts a new
+     * unit led by this spawner. Only the leader keeps a timer, it draws loot for every member.
+     */
+    private void startUnitTask(SpawnerData spawner) {
+        int handle = spawner.getHandle();
+        SpawnerData leader = findAdjacentUnit(spawner);
+        if (leader != null) {
+            Set<SpawnerData> members = unitMembers.get(leader.getHandle());
+            if (members != null) {
+                unitLeaders.put(handle, leader);
+                members.add(spawner);
+                return;
+            }
+        }
+
+        Set<SpawnerData> members = ConcurrentHashMap.newKeySet();
+        members.add(spawner);
+        unitLeaders.put(handle, spawner);
+        unitMembers.put(handle, members);
+
+        spawner.setLastSpawnTime(System.currentTimeMillis() + spawner.getSpawnDelay());
+        ScheduledTask task = scheduler.runAtLocationTimer(spawner.getSpawnerLocation(),
+                () -> {
+                    if (spawner.getSpawnerStop()) return;
+                    if (members.size() == 1) {
+                        spawnerLootGenerator.spawnLootToSpawner(spawner);
+                        return;
+                    }
+                    // Leader first, it owns the spawn time of the unit
+                    List<SpawnerData> snapshot = new ArrayList<>(members.size());
+                    snapshot.add(spawner);
+                    for (SpawnerData member : members) {
+                        if (member == spawner) continue;
+                        if (canShareUnit(spawner, member)) {
+                            snapshot.add(member);
+                        } else {
+                            // Type or delay changed since it joined, give it a timer of its own
+                            startSpawnerTask(member);
+                        }
+                    }
+                    spawnerLootGenerator.spawnLootToUnit(snapshot);
+                },
                 0L, spawner.getSpawnDelay()
         );
 
-        spawnerTasks.put(spawner.getSpawnerId(), task);
+        spawnerTasks.put(handle, task);
     }
 
-    public void stopSpawnerTask(SpawnerData spawner) {
-        BukkitTask task = spawnerTasks.remove(spawner.getSpawnerId());
+    private SpawnerData findAdjacentUnit(SpawnerData spawner) {
+        Location loc = spawner.getSpawnerLocation();
+        int chunkX = loc.getBlockX() >> 4;
+        int chunkZ = loc.getBlockZ() >> 4;
+
+        for (int[] offset : UNIT_NEIGHBOURS) {
+            Location neighbourLoc = loc.clone().add(offset[0], offset[1], offset[2]);
+            if (neighbourLoc.getBlockX() >> 4 != chunkX || neighbourLoc.getBlockZ() >> 4 != chunkZ) continue;
+
+            SpawnerData neighbour = spawnerManager.getSpawnerByLocation(neighbourLoc);
+            if (neighbour == null) continue;
+
+            SpawnerData leader = unitLeaders.get(neighbour.getHandle());
+            if (leader != null && spawnerManager.getSpawnerByHandle(leader.getHandle()) == leader
+                    && canShareUnit(leader, spawner)) {
+                return leader;
+            }
+        }
+        return null;
+    }
+
+    private boolean canShareUnit(SpawnerData leader, SpawnerData spawner) {
+        return leader.getEntityType() == spawner.getEntityType()
+                && leader.getSpawnDelay().equals(spawner.getSpawnDelay())
+                && leader.isAllowEquipmentItems() == spawner.isAllowEquipmentItems();
+    }
+
+    private void cancelSpawnerTask(int handle) {
+        ScheduledTask task = spawnerTasks.remove(handle);
         if (task != null) {
             task.cancel();
         }
+        leaveUnit(handle);
+    }
+
+    private void leaveUnit(int handle) {
+        SpawnerData leader = unitLeaders.remove(handle);
+        if (leader == null) return;
+
+        int leaderHandle = leader.getHandle();
+        if (leaderHandle != handle) {
+            Set<SpawnerData> members = unitMembers.get(leaderHandle);
+            if (members != null) {
+                members.removeIf(member -> member.getHandle() == handle);
+            }
+            return;
+        }
+
+        // The leader owned the timer, the remaining members regroup around a new leader
+        Set<SpawnerData> members = unitMembers.remove(handle);
+        if (members == null) return;
+        List<SpawnerData> orphans = new ArrayList<>();
+        for (SpawnerData member : members) {
+            if (member.getHandle() == handle) continue;
+            unitLeaders.remove(member.getHandle());
+            orphans.add(member);
+        }
+        for (SpawnerData member : orphans) {
+            if (!member.getSpawnerStop() && !sleepingSpawners.containsKey(member.getHandle())) {
+                startSpawnerTask(member);
+            }
+        }
+    }
+
+    // Called when a spawner is destroyed, so it is also dropped from range tracking
+    public void stopSpawnerTask(SpawnerData spawner) {
+        cancelSpawnerTask(spawner.getHandle());
+        playersInRange.remove(spawner.getHandle());
+        leftRangeSince.remove(spawner.getHandle());
+        sleepingSpawners.remove(spawner.getHandle());
+        throttledSpawners.remove(spawner.getHandle());
     }
 
-    public Set<UUID> getPlayersInRange(String spawnerId) {
-        return playersInRange.getOrDefault(spawnerId, Collections.emptySet());
+    public Set<UUID> getPlayersInRange(SpawnerData spawner) {
+        Set<UUID> players = playersInRange.get(spawner.getHandle());
+        return players != null ? players : Collections.emptySet();
     }
 
     public void cleanup() {
-        spawnerTasks.values().forEach(BukkitTask::cancel);
+        spawnerTasks.forEachValue(ScheduledTask::cancel);
         spawnerTasks.clear();
+        unitLeaders.clear();
+        unitMembers.clear();
         playersInRange.clear();
+        leftRangeSince.clear();
+        sleepingSpawners.clear();
+        throttledSpawners.clear();
+        lastInput.clear();
+        playerPositions.clear();
+        activeClusters.clear();
+        pendingClusters.clear();
+        stateChanges.clear();
+        playerGrids = Collections.emptyMap();
     }
-}
\ No newline at end of file
+}
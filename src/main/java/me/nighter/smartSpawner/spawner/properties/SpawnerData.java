@@ -2,6 +2,7 @@ package me.nighter.smartSpawner.spawner.properties;
 
 import me.nighter.smartSpawner.SmartSpawner;
 import me.nighter.smartSpawner.commands.hologram.SpawnerHologram;
+import me.nighter.smartSpawner.spawner.lootgen.SpawnerRangeChecker;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.utils.LanguageManager;
 
@@ -12,6 +13,7 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.concurrent.locks.ReentrantLock;
@@ -24,6 +26,7 @@ public class SpawnerData {
 
     // Spawner properties
     private final String spawnerId;
+    private volatile int handle = -1; // Dense in-memory handle while registered, -1 otherwise
     private final Location spawnerLocation;
     private Integer spawnerExp;
     private Boolean spawnerActive;
@@ -31,6 +34,8 @@ public class SpawnerData {
     private Boolean spawnerStop;
     private Boolean isAtCapacity;
     private Long lastSpawnTime;
+    private long lastValidated; // When the spawner block was last confirmed to exist, 0 if never
+    private UUID ownerId; // Player who placed or activated the spawner, null for older spawners
     private Integer spawnDelay;
     private EntityType entityType;
     private int maxSpawnerLootSlots;
@@ -43,11 +48,14 @@ public class SpawnerData {
     private VirtualInventory virtualInventory;
     private boolean allowEquipmentItems;
 
-    // Hologram properties
-    private SpawnerHologram hologram;
+    // Hologram properties, only touched from the thread owning the spawner's location
+    private volatile SpawnerHologram hologram;
 
     // Other properties
     private final ReentrantLock lock = new ReentrantLock();
+    private final VirtualInventory.ChangeListener inventoryListener = this::onInventoryChange;
+    // Listeners of other components, moved along when the inventory is replaced
+    private final List<VirtualInventory.ChangeListener> inventoryListeners = new CopyOnWriteArrayList<>();
 
     // Cached values
     private long cachedSpawnDelay = 0;
@@ -68,12 +76,8 @@ public class SpawnerData {
         this.configManager = plugin.getConfigManager();
         this.languageManager = plugin.getLanguageManager();
         loadConfigValues();
-        this.virtualInventory = new VirtualInventory(maxSpawnerLootSlots);
-        if (configManager.isHologramEnabled()) {
-            this.hologram = new SpawnerHologram(location);
-            this.hologram.createHologram();
-            updateHologramData();
-        }
+        bindVirtualInventory(new VirtualInventory(maxSpawnerLootSlots));
+        refreshHologram();
     }
 
     private void loadConfigValues() {
@@ -138,40 +142,10 @@ public class SpawnerData {
                 return;
             }
 
-            // Get current consolidated items
-            Map<VirtualInventory.ItemSignature, Long> currentItems = virtualInventory.getConsolidatedItems();
-
-            // Calculate new max slots
-            int maxStoragePages = configManager.getMaxStoragePages();
-            int newMaxSlots = (45 * maxStoragePages) * stackSize;
-
-            // Create new inventory with new size
-            VirtualInventory newInventory = new VirtualInventory(newMaxSlots);
-
-            // Convert consolidated items to ItemStack list for adding to new inventory
-            List<ItemStack> itemsToTransfer = new ArrayList<>();
-            currentItems.forEach((signature, amount) -> {
-                ItemStack template = signature.getTemplate();
-                while (amount > 0) {
-                    int batchSize = (int) Math.min(amount, Integer.MAX_VALUE);
-                    ItemStack batch = template.clone();
-                    batch.setAmount(batchSize);
-                    itemsToTransfer.add(batch);
-                    amount -= batchSize;
-                }
-            });
-
-            // Update stack size and config values
-            this.stackSize = stackSize;
-            loadConfigValues();
-            this.lastSpawnTime = System.currentTimeMillis() + (long) this.spawnDelay;
-
-            // Add items to new inventory
-            newInventory.addItems(itemsToTransfer);
-            this.virtualInventory = newInventory;
-            updateHologramData();
+            applyStackSize(stackSize);
         } finally {
             lock.unlock();
+            refreshIndex();
         }
     }
 
@@ -191,43 +165,27 @@ public class SpawnerData {
                 return;
             }
 
-            // Get current consolidated items
-            Map<VirtualInventory.ItemSignature, Long> currentItems = virtualInventory.getConsolidatedItems();
-
-            // Calculate new max slots
-            int maxStoragePages = configManager.getMaxStoragePages();
-            int newMaxSlots = (45 * maxStoragePages) * stackSize;
-
-            // Create new inventory with new size
-            VirtualInventory newInventory = new VirtualInventory(newMaxSlots);
-
-            // Convert consolidated items to ItemStack list for adding to new inventory
-            List<ItemStack> itemsToTransfer = new ArrayList<>();
-            currentItems.forEach((signature, amount) -> {
-                ItemStack template = signature.getTemplate();
-                while (amount > 0) {
-                    int batchSize = (int) Math.min(amount, Integer.MAX_VALUE);
-                    ItemStack batch = template.clone();
-                    batch.setAmount(batchSize);
-                    itemsToTransfer.add(batch);
-                    amount -= batchSize;
-                }
-            });
-
-            // Update stack size and config values
-            this.stackSize = stackSize;
-            loadConfigValues();
-            this.lastSpawnTime = System.currentTimeMillis() + (long) this.spawnDelay;
-
-            // Add items to new inventory
-            newInventory.addItems(itemsToTransfer);
-            this.virtualInventory = newInventory;
-            updateHologramData();
+            applyStackSize(stackSize);
         } finally {
             lock.unlock();
+            refreshIndex();
         }
     }
 
+    private void applyStackSize(int stackSize) {
+        // Update stack size and config values
+        this.stackSize = stackSize;
+        loadConfigValues();
+        this.lastSpawnTime = System.currentTimeMillis() + (long) this.spawnDelay;
+
+        // Only the slot limit changes, stored loot stays where it is
+        virtualInventory.resize(maxSpawnerLootSlots);
+        if (isAtCapacity && virtualInventory.getUsedSlots() < maxSpawnerLootSlots) {
+            setAtCapacity(false);
+        }
+        updateHologramData();
+    }
+
     public int getStackSize() {
         return stackSize;
     }
@@ -242,6 +200,18 @@ public class SpawnerData {
         return spawnerId;
     }
 
+    /**
+     * @return The dense in-memory handle of a registered spawner, or -1. Handles are reused after
+     * a spawner is removed and are never persisted, use the spawner ID for anything stored.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    void setHandle(int handle) {
+        this.handle = handle;
+    }
+
     public Location getSpawnerLocation() {
         return spawnerLocation;
     }
@@ -252,6 +222,9 @@ public class SpawnerData {
 
     public void setSpawnerExp(int exp) {
         this.spawnerExp = Math.min(exp, maxStoredExp);
+        if (isAtCapacity && spawnerExp < maxStoredExp) {
+            setAtCapacity(false);
+        }
         updateHologramData();
     }
 
@@ -277,6 +250,15 @@ public class SpawnerData {
 
     public void setEntityType(EntityType entityType) {
         this.entityType = entityType;
+        refreshIndex();
+    }
+
+    // Keeps the manager's per type and stack size totals in step, no-op while loading
+    private void refreshIndex() {
+        SpawnerManager spawnerManager = plugin.getSpawnerManager();
+        if (spawnerManager != null) {
+            spawnerManager.refreshIndex(this);
+        }
     }
 
     public int getMaxSpawnerLootSlots() {
@@ -331,6 +313,23 @@ public class SpawnerData {
         this.lastSpawnTime = lastSpawnTime;
     }
 
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(UUID ownerId) {
+        this.ownerId = ownerId;
+        refreshIndex();
+    }
+
+    public long getLastValidated() {
+        return lastValidated;
+    }
+
+    public void setLastValidated(long lastValidated) {
+        this.lastValidated = lastValidated;
+    }
+
     public Integer getSpawnDelay() {
         return spawnDelay;
     }
@@ -351,8 +350,18 @@ public class SpawnerData {
         return isAtCapacity;
     }
 
+    // A full spawner sleeps without a timer, it is woken as soon as storage or exp frees up
     public void setAtCapacity(boolean isAtCapacity) {
+        if (this.isAtCapacity == isAtCapacity) return;
         this.isAtCapacity = isAtCapacity;
+
+        SpawnerRangeChecker rangeChecker = plugin.getRangeChecker();
+        if (rangeChecker == null) return;
+        if (isAtCapacity) {
+            rangeChecker.sleepSpawner(this);
+        } else {
+            rangeChecker.wakeSpawner(this);
+        }
     }
 
 // ===============================================================
@@ -364,7 +373,46 @@ public class SpawnerData {
     }
 
     public void setVirtualInventory(VirtualInventory inventory) {
+        bindVirtualInventory(inventory);
+    }
+
+    private void bindVirtualInventory(VirtualInventory inventory) {
+        if (virtualInventory != null) {
+            virtualInventory.removeChangeListener(inventoryListener);
+            inventoryListeners.forEach(virtualInventory::removeChangeListener);
+        }
         this.virtualInventory = inventory;
+        inventory.bindLock(lock);
+        inventory.addChangeListener(inventoryListener);
+        inventoryListeners.forEach(inventory::addChangeListener);
+    }
+
+    /**
+     * Subscribes to changes of this spawner's storage. Unlike subscribing to the inventory itself,
+     * the listener stays subscribed when the inventory is replaced. Listeners run while the
+     * spawner lock is held, on whichever thread changed the storage.
+     *
+     * @param listener The listener to add
+     */
+    public void addInventoryListener(VirtualInventory.ChangeListener listener) {
+        inventoryListeners.add(listener);
+        virtualInventory.addChangeListener(listener);
+    }
+
+    public void removeInventoryListener(VirtualInventory.ChangeListener listener) {
+        inventoryListeners.remove(listener);
+        virtualInventory.removeChangeListener(listener);
+    }
+
+    // React to real storage changes instead of having every caller refresh state by hand. The hologram is
+    // recreated on reload and toggled by config, so it is updated from here rather than subscribing itself
+    private void onInventoryChange(VirtualInventory inventory, VirtualInventory.InventoryChange change) {
+        if (change.capacityCrossed() && !change.atCapacity()) {
+            setAtCapacity(false);
+        }
+        if (change.usedSlotsDelta() != 0) {
+            updateHologramData();
+        }
     }
 
     public Map<Integer, ItemStack> getDisplayInventory() {
@@ -375,21 +423,32 @@ public class SpawnerData {
 //                    Spawner Hologram
 // ===============================================================
 
+    // Holograms are entities, callers on other threads hand the work to the thread owning the location
+    private void runAtSpawner(Runnable task) {
+        plugin.getTaskScheduler().executeAtLocation(spawnerLocation, task);
+    }
+
     public void updateHologramData() {
-        if (hologram != null) {
-            hologram.updateData(
-                    stackSize,
-                    entityType,
-                    spawnerExp,
-                    maxStoredExp,
-                    virtualInventory.getUsedSlots(),
-                    maxSpawnerLootSlots
-            );
-        }
+        if (hologram == null) return;
+        runAtSpawner(() -> {
+            SpawnerHologram current = hologram;
+            if (current != null) {
+                current.updateData(
+                        stackSize,
+                        entityType,
+                        spawnerExp,
+                        maxStoredExp,
+                        virtualInventory.getUsedSlots(),
+                        maxSpawnerLootSlots
+                );
+            }
+        });
     }
 
     public void reloadHologramData() {
-        if (hologram != null) {
+        if (hologram == null) return;
+        runAtSpawner(() -> {
+            if (hologram == null) return;
             hologram.remove();
             this.hologram = new SpawnerHologram(spawnerLocation);
             this.hologram.createHologram();
@@ -401,34 +460,48 @@ public class SpawnerData {
                     virtualInventory.getUsedSlots(),
                     maxSpawnerLootSlots
             );
-        }
+        });
     }
 
     public void refreshHologram() {
-        if (configManager.isHologramEnabled()) {
-            if (hologram == null) {
-                this.hologram = new SpawnerHologram(spawnerLocation);
-                this.hologram.createHologram();
-                updateHologramData();
+        if (hologram == null && !configManager.isHologramEnabled()) return;
+        runAtSpawner(() -> {
+            if (configManager.isHologramEnabled()) {
+                if (hologram == null) {
+                    this.hologram = new SpawnerHologram(spawnerLocation);
+                    this.hologram.createHologram();
+                    updateHologramData();
+                }
+            } else {
+                if (hologram != null) {
+                    hologram.remove();
+                    hologram = null;
+                }
             }
-        } else {
+        });
+    }
+
+    // A hologram whose creation is still queued is removed as well, the queued tasks run in order
+    public void removeHologram() {
+        if (hologram == null && !configManager.isHologramEnabled()) return;
+        runAtSpawner(() -> {
             if (hologram != null) {
                 hologram.remove();
                 hologram = null;
             }
-        }
+        });
     }
 
-    public void removeHologram() {
-        if (hologram != null) {
-            hologram.remove();
-            hologram = null;
-        }
+    public boolean hasHologram() {
+        return hologram != null;
     }
 
     public void removeGhostHologram() {
         if (hologram != null && configManager.isHologramEnabled()) {
-            hologram.cleanupExistingHologram();
+            runAtSpawner(() -> {
+                SpawnerHologram current = hologram;
+                if (current != null) current.cleanupExistingHologram();
+            });
         }
     }
 // ===============================================================
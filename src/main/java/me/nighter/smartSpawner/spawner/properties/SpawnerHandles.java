@@ -0,0 +1,61 @@
+package me.nighter.smartSpawner.spawner.properties;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Hands out dense int handles to registered spawners, so hot in-memory maps can key on a small
+ * int instead of the persistent string ID, and a handle resolves back to its spawner by array index.
+ * <p>
+ * Released handles are only reused once enough have piled up, so a handle isn't given to a new
+ * spawner right after its old one is gone while async work may still hold it.
+ */
+class SpawnerHandles {
+    private static final int REUSE_AFTER = 1024;
+
+    private final ArrayDeque<Integer> released = new ArrayDeque<>();
+    private volatile AtomicReferenceArray<SpawnerData> table = new AtomicReferenceArray<>(256);
+    private int next;
+
+    synchronized int allocate(SpawnerData spawner) {
+        int current = spawner.getHandle();
+        if (current >= 0 && current < table.length() && table.get(current) == spawner) {
+            return current;
+        }
+
+        int handle = released.size() > REUSE_AFTER ? released.poll() : next++;
+        if (handle >= table.length()) {
+            AtomicReferenceArray<SpawnerData> grown = new AtomicReferenceArray<>(table.length() * 2);
+            for (int i = 0; i < table.length(); i++) {
+                grown.set(i, table.get(i));
+            }
+            table = grown;
+        }
+        table.set(handle, spawner);
+        spawner.setHandle(handle);
+        return handle;
+    }
+
+    synchronized void release(SpawnerData spawner) {
+        int handle = spawner.getHandle();
+        if (handle < 0 || handle >= table.length() || table.get(handle) != spawner) return;
+
+        table.set(handle, null);
+        spawner.setHandle(-1);
+        released.add(handle);
+    }
+
+    synchronized void clear() {
+        table = new AtomicReferenceArray<>(256);
+        released.clear();
+        next = 0;
+    }
+
+    /**
+     * @return The spawner holding the handle, or null if it is free. Safe to call from any thread.
+     */
+    SpawnerData get(int handle) {
+        AtomicReferenceArray<SpawnerData> current = table;
+        return handle >= 0 && handle < current.length() ? current.get(handle) : null;
+    }
+}
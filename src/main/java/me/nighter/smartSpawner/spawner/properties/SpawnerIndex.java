@@ -0,0 +1,238 @@
+package me.nighter.smartSpawner.spawner.properties;
+
+import org.bukkit.World;
+import org.bukkit.entity.EntityType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Secondary indexes over the registered spawners, by world, owner, entity type and stack size bucket,
+ * each with running spawner and stack totals. Updated on the registry's write path and whenever
+ * a spawner's stack size or type changes, read from any thread without scanning every spawner.
+ */
+public class SpawnerIndex {
+    private final Map<String, Group> worlds = new ConcurrentHashMap<>();
+    private final Map<UUID, Group> owners = new ConcurrentHashMap<>();
+    private final Map<EntityType, Counter> entityTypes = new ConcurrentHashMap<>();
+    private final Map<Integer, Counter> stackBuckets = new ConcurrentHashMap<>();
+    private final Counter total = new Counter();
+    // What each spawner is currently counted as, so a change can be backed out exactly
+    private final Map<SpawnerData, Entry> indexed = new ConcurrentHashMap<>();
+
+    /**
+     * Spawner count and total stacked spawners of one index bucket.
+     */
+    public record Totals(int spawners, long stacks) {
+        public static final Totals EMPTY = new Totals(0, 0);
+    }
+
+    private record Entry(String worldName, UUID ownerId, EntityType entityType, int stackSize) {}
+
+    private static final class Counter {
+        private final AtomicInteger spawners = new AtomicInteger();
+        private final AtomicLong stacks = new AtomicLong();
+
+        private void add(int stackSize) {
+            spawners.incrementAndGet();
+            stacks.addAndGet(stackSize);
+        }
+
+        private void remove(int stackSize) {
+            spawners.decrementAndGet();
+            stacks.addAndGet(-stackSize);
+        }
+
+        private Totals toTotals() {
+            return new Totals(spawners.get(), stacks.get());
+        }
+    }
+
+    // Spawners of one world or owner, with their totals and a lazily built list snapshot
+    private static final class Group {
+        private final Counter counter = new Counter();
+        private final Set<SpawnerData> members = ConcurrentHashMap.newKeySet();
+        private final AtomicLong version = new AtomicLong();
+        private volatile Snapshot snapshot;
+
+        private void add(SpawnerData spawner, int stackSize) {
+            if (members.add(spawner)) {
+                version.incrementAndGet();
+            }
+            counter.add(stackSize);
+        }
+
+        private void remove(SpawnerData spawner, int stackSize) {
+            if (members.remove(spawner)) {
+                version.incrementAndGet();
+            }
+            counter.remove(stackSize);
+        }
+
+        // Same scheme as the registry snapshot, a racing write bumps the version so it is rebuilt again.
+        // Sorted by ID, so pages cut from it stay put while other spawners come and go
+        private List<SpawnerData> getSnapshot() {
+            long current = version.get();
+            Snapshot cached = snapshot;
+            if (cached != null && cached.version() == current) {
+                return cached.spawners();
+            }
+            List<SpawnerData> list = members.stream().sorted(BY_ID).toList();
+            snapshot = new Snapshot(current, list);
+            return list;
+        }
+    }
+
+    private record Snapshot(long version, List<SpawnerData> spawners) {}
+
+    private static final Comparator<SpawnerData> BY_ID = Comparator.comparing(SpawnerData::getSpawnerId);
+
+    /**
+     * Groups stack sizes by order of magnitude: 1-9, 10-99, 100-999 and so on
+     *
+     * @param stackSize The stack size
+     * @return The lower bound of the bucket
+     */
+    public static int getStackBucket(int stackSize) {
+        int bucket = 1;
+        while (stackSize >= bucket * 10 && bucket < 1_000_000_000) {
+            bucket *= 10;
+        }
+        return bucket;
+    }
+
+    void add(SpawnerData spawner) {
+        World world = spawner.getSpawnerLocation().getWorld();
+        if (world == null) return;
+
+        Entry entry = new Entry(world.getName(), spawner.getOwnerId(), spawner.getEntityType(), spawner.getStackSize());
+        indexed.compute(spawner, (key, previous) -> {
+            if (entry.equals(previous)) return previous;
+            if (previous != null) {
+                uncount(spawner, previous);
+            }
+            count(spawner, entry);
+            return entry;
+        });
+    }
+
+    /**
+     * Recounts a spawner after its stack size, entity type or owner changed. No-op for spawners
+     * that are not indexed.
+     */
+    void refresh(SpawnerData spawner) {
+        indexed.computeIfPresent(spawner, (key, previous) -> {
+            Entry entry = new Entry(previous.worldName(), spawner.getOwnerId(), spawner.getEntityType(), spawner.getStackSize());
+            if (entry.equals(previous)) return previous;
+            uncount(spawner, previous);
+            count(spawner, entry);
+            return entry;
+        });
+    }
+
+    void remove(SpawnerData spawner) {
+        indexed.computeIfPresent(spawner, (key, previous) -> {
+            uncount(spawner, previous);
+            return null;
+        });
+    }
+
+    void clear() {
+        worlds.clear();
+        owners.clear();
+        entityTypes.clear();
+        stackBuckets.clear();
+        indexed.clear();
+        total.spawners.set(0);
+        total.stacks.set(0);
+    }
+
+    private void count(SpawnerData spawner, Entry entry) {
+        worlds.computeIfAbsent(entry.worldName(), k -> new Group()).add(spawner, entry.stackSize());
+        if (entry.ownerId() != null) {
+            owners.computeIfAbsent(entry.ownerId(), k -> new Group()).add(spawner, entry.stackSize());
+        }
+        if (entry.entityType() != null) {
+            entityTypes.computeIfAbsent(entry.entityType(), k -> new Counter()).add(entry.stackSize());
+        }
+        stackBuckets.computeIfAbsent(getStackBucket(entry.stackSize()), k -> new Counter()).add(entry.stackSize());
+        total.add(entry.stackSize());
+    }
+
+    private void uncount(SpawnerData spawner, Entry entry) {
+        Group world = worlds.get(entry.worldName());
+        if (world != null) world.remove(spawner, entry.stackSize());
+        if (entry.ownerId() != null) {
+            Group owner = owners.get(entry.ownerId());
+            if (owner != null) owner.remove(spawner, entry.stackSize());
+        }
+        if (entry.entityType() != null) {
+            Counter type = entityTypes.get(entry.entityType());
+            if (type != null) type.remove(entry.stackSize());
+        }
+        Counter bucket = stackBuckets.get(getStackBucket(entry.stackSize()));
+        if (bucket != null) bucket.remove(entry.stackSize());
+        total.remove(entry.stackSize());
+    }
+
+    public Totals getTotals() {
+        return total.toTotals();
+    }
+
+    public Totals getWorldTotals(String worldName) {
+        Group world = worlds.get(worldName);
+        return world != null ? world.counter.toTotals() : Totals.EMPTY;
+    }
+
+    public Totals getOwnerTotals(UUID ownerId) {
+        Group owner = owners.get(ownerId);
+        return owner != null ? owner.counter.toTotals() : Totals.EMPTY;
+    }
+
+    public Totals getEntityTypeTotals(EntityType entityType) {
+        Counter counter = entityTypes.get(entityType);
+        return counter != null ? counter.toTotals() : Totals.EMPTY;
+    }
+
+    /**
+     * @return Totals per entity type, leaving out types without spawners
+     */
+    public Map<EntityType, Totals> getEntityTypeTotals() {
+        Map<EntityType, Totals> result = new EnumMap<>(EntityType.class);
+        entityTypes.forEach((type, counter) -> {
+            Totals totals = counter.toTotals();
+            if (totals.spawners() > 0) result.put(type, totals);
+        });
+        return result;
+    }
+
+    /**
+     * @return Totals per stack bucket in ascending order, keyed by the bucket's lower bound
+     */
+    public SortedMap<Integer, Totals> getStackBucketTotals() {
+        SortedMap<Integer, Totals> result = new TreeMap<>();
+        stackBuckets.forEach((bucket, counter) -> {
+            Totals totals = counter.toTotals();
+            if (totals.spawners() > 0) result.put(bucket, totals);
+        });
+        return result;
+    }
+
+    /**
+     * @return Immutable snapshot of a world's spawners sorted by ID, shared until that world's spawners change
+     */
+    public List<SpawnerData> getWorldSpawners(String worldName) {
+        Group world = worlds.get(worldName);
+        return world != null ? world.getSnapshot() : List.of();
+    }
+
+    /**
+     * @return Immutable snapshot of a player's spawners sorted by ID, shared until that player's spawners change
+     */
+    public List<SpawnerData> getOwnerSpawners(UUID ownerId) {
+        Group owner = owners.get(ownerId);
+        return owner != null ? owner.getSnapshot() : List.of();
+    }
+}
@@ -1,25 +1,72 @@
 package me.nighter.smartSpawner.spawner.properties;
 
 import me.nighter.smartSpawner.SmartSpawner;
+import me.nighter.smartSpawner.extras.HopperHandler;
+import me.nighter.smartSpawner.spawner.gui.synchronization.SpawnerGuiViewManager;
+import me.nighter.smartSpawner.spawner.lootgen.SpawnerRangeChecker;
+import me.nighter.smartSpawner.spawner.properties.utils.LongObjectMap;
 import me.nighter.smartSpawner.spawner.properties.utils.SpawnerFileHandler;
+import me.nighter.smartSpawner.spawner.properties.utils.VanillaSpawnerSuppressor;
 import me.nighter.smartSpawner.utils.ConfigManager;
+import me.nighter.smartSpawner.utils.scheduler.ScheduledTask;
 import org.bukkit.*;
+import org.bukkit.block.CreatureSpawner;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 /**
  * Manages all spawner data and interactions, delegating file operations
  * to SpawnerFileHandler for improved performance.
+ * <p>
+ * The registry is written from the main thread but read from async saves, shop executors
+ * and the range checker worker, so every index is safe to read from any thread.
  */
 public class SpawnerManager {
     private final SmartSpawner plugin;
-    private final Map<String, SpawnerData> spawners = new HashMap<>();
-    private final Map<LocationKey, SpawnerData> locationIndex = new HashMap<>();
+    private final Map<String, SpawnerData> spawners = new ConcurrentHashMap<>();
+    // Per world, keyed by packed block coordinates so lookups don't allocate. A world's map is
+    // mutated in place under its own monitor, which lookups take as well, so a placement costs
+    // one insert and only contends with work in the same world. Nothing iterates it
+    private final Map<UUID, LongObjectMap<SpawnerData>> locationIndex = new ConcurrentHashMap<>();
     private final ConfigManager configManager;
-    private final Map<String, Set<SpawnerData>> worldIndex = new HashMap<>();
+    // Spawners and running totals by world, entity type and stack size
+    private final SpawnerIndex index = new SpawnerIndex();
+    private final SpawnerHandles handles = new SpawnerHandles();
+    // Concurrent so the range checker can read it from its worker thread
+    private final Map<String, Map<Long, Set<SpawnerData>>> chunkIndex = new ConcurrentHashMap<>();
+    // Chunks holding spawners that are currently unloaded, their spawners are kept out of range checks
+    private final Map<String, Set<Long>> parkedChunks = new ConcurrentHashMap<>();
+    // Spawners of unloaded worlds whose final write hasn't succeeded yet, they are in no other index
+    private final Map<String, SpawnerData> pendingPageOuts = new ConcurrentHashMap<>();
     private final SpawnerFileHandler fileHandler;
     private final Logger logger;
 
+    // Chunks still to be checked for ghost spawners by the background sweep
+    private final Queue<GhostCheck> ghostSweepQueue = new ConcurrentLinkedQueue<>();
+    private ScheduledTask ghostSweepTask;
+
+    private record GhostCheck(String worldName, int chunkX, int chunkZ) {}
+
+    // Immutable list of all spawners, rebuilt on the first read after the registry changed
+    private final AtomicLong registryVersion = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(long version, List<SpawnerData> spawners) {}
+
+    private static final long COMPACTION_INTERVAL_TICKS = 20L * 60;
+    private static final int MAX_COMPACTIONS_PER_RUN = 500;
+    private static final long PAGE_OUT_RETRY_TICKS = 20L * 30;
+
     /**
      * Constructor for SpawnerManager
      *
@@ -35,37 +82,77 @@ public class SpawnerManager {
 
         // Load spawners from file
         loadSpawnerData();
+
+        // Periodically compress storage of idle spawners
+        plugin.getTaskScheduler().runGlobalTimer(this::compactIdleInventories,
+                COMPACTION_INTERVAL_TICKS, COMPACTION_INTERVAL_TICKS);
     }
 
     /**
-     * Key class for efficient location-based spawner lookups
+     * Packs block coordinates into a single key, 26 bits for x and z and 12 bits for y
+     *
+     * @param x The block X coordinate
+     * @param y The block Y coordinate
+     * @param z The block Z coordinate
+     * @return The packed block key
      */
-    private static class LocationKey {
-        private final String world;
-        private final int x, y, z;
+    public static long getBlockKey(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    // Emptied maps stay until the world unloads, dropping one could lose an insert racing the removal
+    private LongObjectMap<SpawnerData> getWorldLocations(UUID worldId) {
+        return locationIndex.computeIfAbsent(worldId, k -> new LongObjectMap<>());
+    }
 
-        public LocationKey(Location location) {
-            this.world = location.getWorld().getName();
-            this.x = location.getBlockX();
-            this.y = location.getBlockY();
-            this.z = location.getBlockZ();
+    private void addToLocationIndex(SpawnerData spawner) {
+        Location loc = spawner.getSpawnerLocation();
+        if (loc.getWorld() == null) return;
+
+        LongObjectMap<SpawnerData> worldLocations = getWorldLocations(loc.getWorld().getUID());
+        synchronized (worldLocations) {
+            worldLocations.put(getBlockKey(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()), spawner);
         }
+    }
+
+    private void removeFromLocationIndex(SpawnerData spawner) {
+        Location loc = spawner.getSpawnerLocation();
+        if (loc.getWorld() == null) return;
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof LocationKey)) return false;
-            LocationKey that = (LocationKey) o;
-            return x == that.x &&
-                    y == that.y &&
-                    z == that.z &&
-                    world.equals(that.world);
+        LongObjectMap<SpawnerData> worldLocations = locationIndex.get(loc.getWorld().getUID());
+        if (worldLocations == null) return;
+
+        synchronized (worldLocations) {
+            worldLocations.remove(getBlockKey(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()));
         }
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(world, x, y, z);
+    // One lock per world for the whole batch, rather than one per spawner
+    private void removeFromLocationIndex(Collection<SpawnerData> batch) {
+        Map<UUID, List<SpawnerData>> byWorld = new HashMap<>();
+        for (SpawnerData spawner : batch) {
+            World world = spawner.getSpawnerLocation().getWorld();
+            if (world != null) {
+                byWorld.computeIfAbsent(world.getUID(), k -> new ArrayList<>()).add(spawner);
+            }
         }
+
+        byWorld.forEach((worldId, worldSpawners) -> {
+            LongObjectMap<SpawnerData> worldLocations = locationIndex.get(worldId);
+            if (worldLocations == null) return;
+
+            synchronized (worldLocations) {
+                for (SpawnerData spawner : worldSpawners) {
+                    Location loc = spawner.getSpawnerLocation();
+                    worldLocations.remove(getBlockKey(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()));
+                }
+            }
+        });
+    }
+
+    // Bumped after every registry write so the next getAllSpawners call rebuilds its snapshot
+    private void invalidateSnapshot() {
+        registryVersion.incrementAndGet();
     }
 
     /**
@@ -75,12 +162,18 @@ public class SpawnerManager {
      * @param spawner The spawner data object
      */
     public void addSpawner(String id, SpawnerData spawner) {
+        handles.allocate(spawner);
         spawners.put(id, spawner);
-        locationIndex.put(new LocationKey(spawner.getSpawnerLocation()), spawner);
+        addToLocationIndex(spawner);
+
+        index.add(spawner);
+        addToChunkIndex(spawner);
+        invalidateSnapshot();
 
-        // Add to world index
-        String worldName = spawner.getSpawnerLocation().getWorld().getName();
-        worldIndex.computeIfAbsent(worldName, k -> new HashSet<>()).add(spawner);
+        // Loot is generated by the plugin, vanilla doesn't need to tick this block
+        VanillaSpawnerSuppressor.suppress(spawner.getSpawnerLocation().getBlock());
+        // Just placed, so the block is known to exist
+        spawner.setLastValidated(System.currentTimeMillis());
 
         // Queue for saving
         fileHandler.queueSpawnerForSaving(id);
@@ -95,23 +188,379 @@ public class SpawnerManager {
         SpawnerData spawner = spawners.get(id);
         if (spawner != null) {
             spawner.removeHologram();
-            locationIndex.remove(new LocationKey(spawner.getSpawnerLocation()));
-
-            // Remove from world index
-            String worldName = spawner.getSpawnerLocation().getWorld().getName();
-            Set<SpawnerData> worldSpawners = worldIndex.get(worldName);
-            if (worldSpawners != null) {
-                worldSpawners.remove(spawner);
-                if (worldSpawners.isEmpty()) {
-                    worldIndex.remove(worldName);
-                }
-            }
+            restoreVanillaTicking(spawner);
+            removeFromLocationIndex(spawner);
+
+            index.remove(spawner);
+            removeFromChunkIndex(spawner);
 
             spawners.remove(id);
+            releaseHandle(spawner);
+            invalidateSnapshot();
         }
         fileHandler.deleteSpawnerFromFile(id);
     }
 
+    // ===============================================================
+    //                    Bulk Operations
+    // ===============================================================
+
+    /**
+     * Removes many spawners at once, for example when an island or plot is reset. The indexes are
+     * updated in one pass and the data file is written once, off the main thread. The blocks are left alone.
+     * Must be called from the main thread.
+     *
+     * @param targets The spawners to remove, usually from {@link #getSpawnersInRegion}
+     * @return The number of spawners removed
+     */
+    public int removeSpawners(Collection<SpawnerData> targets) {
+        SpawnerRangeChecker rangeChecker = plugin.getRangeChecker();
+        SpawnerGuiViewManager guiViewManager = plugin.getSpawnerGuiManager();
+        List<SpawnerData> removed = new ArrayList<>(targets.size());
+        List<String> removedIds = new ArrayList<>(targets.size());
+
+        for (SpawnerData spawner : targets) {
+            if (!spawners.remove(spawner.getSpawnerId(), spawner)) continue;
+
+            spawner.setSpawnerStop(true);
+            if (rangeChecker != null) rangeChecker.stopSpawnerTask(spawner);
+            if (guiViewManager != null) guiViewManager.closeAllViewersInventory(spawner);
+            spawner.removeHologram();
+            restoreVanillaTicking(spawner);
+
+            index.remove(spawner);
+            removeFromChunkIndex(spawner);
+            releaseHandle(spawner);
+            removed.add(spawner);
+            removedIds.add(spawner.getSpawnerId());
+        }
+        if (removed.isEmpty()) return 0;
+
+        removeFromLocationIndex(removed);
+        invalidateSnapshot();
+        fileHandler.saveBatch(Collections.emptyMap(), removedIds);
+        return removed.size();
+    }
+
+    /**
+     * Switches many spawners on or off at once and writes them with a single save.
+     * Switched off spawners stop and are skipped by range checks until switched on again.
+     *
+     * @param targets The spawners to change
+     * @param active Whether the spawners should be active
+     * @return The number of spawners changed
+     */
+    public int setSpawnersActive(Collection<SpawnerData> targets, boolean active) {
+        SpawnerRangeChecker rangeChecker = plugin.getRangeChecker();
+        Map<String, SpawnerData> changed = new LinkedHashMap<>();
+
+        for (SpawnerData spawner : targets) {
+            if (spawners.get(spawner.getSpawnerId()) != spawner || spawner.getSpawnerActive() == active) continue;
+
+            spawner.setSpawnerActive(active);
+            if (rangeChecker != null) {
+                if (active) {
+                    rangeChecker.requeueSpawner(spawner);
+                } else {
+                    rangeChecker.disableSpawner(spawner);
+                }
+            }
+            // Switched off spawners are left to vanilla until switched on again
+            if (active) {
+                Location loc = spawner.getSpawnerLocation();
+                plugin.getTaskScheduler().executeAtLocation(loc, () -> {
+                    World world = loc.getWorld();
+                    if (world != null && world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) {
+                        VanillaSpawnerSuppressor.suppress(loc.getBlock());
+                    }
+                });
+            } else {
+                restoreVanillaTicking(spawner);
+            }
+            changed.put(spawner.getSpawnerId(), spawner);
+        }
+
+        fileHandler.saveBatch(changed, Collections.emptyList());
+        return changed.size();
+    }
+
+    /**
+     * Empties the storage and stored experience of many spawners at once and writes them
+     * with a single save. Open storage menus of those spawners are closed.
+     *
+     * @param targets The spawners to reset
+     * @return The number of spawners reset
+     */
+    public int resetSpawnerStorage(Collection<SpawnerData> targets) {
+        SpawnerGuiViewManager guiViewManager = plugin.getSpawnerGuiManager();
+        Map<String, SpawnerData> changed = new LinkedHashMap<>();
+
+        for (SpawnerData spawner : targets) {
+            if (spawners.get(spawner.getSpawnerId()) != spawner) continue;
+
+            if (guiViewManager != null) guiViewManager.closeAllViewersInventory(spawner);
+            ReentrantLock lock = spawner.getLock();
+            lock.lock();
+            try {
+                spawner.setVirtualInventory(new VirtualInventory(spawner.getMaxSpawnerLootSlots()));
+                spawner.setSpawnerExp(0);
+                // A full spawner sleeps, emptying it has to wake it
+                spawner.setAtCapacity(false);
+            } finally {
+                lock.unlock();
+            }
+            changed.put(spawner.getSpawnerId(), spawner);
+        }
+
+        fileHandler.saveBatch(changed, Collections.emptyList());
+        return changed.size();
+    }
+
+    /**
+     * Changes the entity type of many spawners at once and writes them with a single save.
+     * Loot follows the new type right away. Only blocks in loaded chunks are updated, blocks in
+     * unloaded chunks keep showing the old mob.
+     *
+     * @param targets The spawners to change
+     * @param entityType The new entity type
+     * @return The number of spawners changed
+     */
+    public int changeSpawnerType(Collection<SpawnerData> targets, EntityType entityType) {
+        SpawnerRangeChecker rangeChecker = plugin.getRangeChecker();
+        SpawnerGuiViewManager guiViewManager = plugin.getSpawnerGuiManager();
+        Map<String, SpawnerData> changed = new LinkedHashMap<>();
+
+        for (SpawnerData spawner : targets) {
+            if (spawners.get(spawner.getSpawnerId()) != spawner || spawner.getEntityType() == entityType) continue;
+
+            if (guiViewManager != null) guiViewManager.closeAllViewersInventory(spawner);
+            spawner.setEntityType(entityType);
+            spawner.invalidateCache();
+            spawner.updateHologramData();
+
+            Location loc = spawner.getSpawnerLocation();
+            plugin.getTaskScheduler().executeAtLocation(loc, () -> {
+                World world = loc.getWorld();
+                if (world != null && world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)
+                        && loc.getBlock().getState() instanceof CreatureSpawner creatureSpawner) {
+                    creatureSpawner.setSpawnedType(entityType);
+                    creatureSpawner.update();
+                }
+            });
+
+            // Units are formed per type, so a running spawner starts again on its own
+            if (rangeChecker != null && spawner.getSpawnerActive() && !spawner.getSpawnerStop()) {
+                rangeChecker.requeueSpawner(spawner);
+            }
+            changed.put(spawner.getSpawnerId(), spawner);
+        }
+
+        fileHandler.saveBatch(changed, Collections.emptyList());
+        return changed.size();
+    }
+
+    /**
+     * Packs chunk coordinates into a single key for the chunk index
+     *
+     * @param chunkX The chunk X coordinate
+     * @param chunkZ The chunk Z coordinate
+     * @return The packed chunk key
+     */
+    public static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private void addToChunkIndex(SpawnerData spawner) {
+        Location loc = spawner.getSpawnerLocation();
+        if (loc.getWorld() == null) return;
+
+        // Chunks rarely hold more than a few spawners and change far less often than they are read,
+        // so each bucket is a copy on write array
+        long chunkKey = getChunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+        chunkIndex.computeIfAbsent(loc.getWorld().getName(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(chunkKey, k -> new CopyOnWriteArraySet<>())
+                .add(spawner);
+    }
+
+    private void removeFromChunkIndex(SpawnerData spawner) {
+        Location loc = spawner.getSpawnerLocation();
+        if (loc.getWorld() == null) return;
+
+        Map<Long, Set<SpawnerData>> worldChunks = chunkIndex.get(loc.getWorld().getName());
+        if (worldChunks == null) return;
+
+        long chunkKey = getChunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+        Set<SpawnerData> chunkSpawners = worldChunks.get(chunkKey);
+        if (chunkSpawners != null) {
+            chunkSpawners.remove(spawner);
+            if (chunkSpawners.isEmpty()) {
+                worldChunks.remove(chunkKey);
+                unparkChunk(loc.getWorld().getName(), loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+                if (worldChunks.isEmpty()) {
+                    chunkIndex.remove(loc.getWorld().getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the spawners inside a chunk
+     *
+     * @param worldName The name of the world
+     * @param chunkX The chunk X coordinate
+     * @param chunkZ The chunk Z coordinate
+     * @return The spawners in that chunk, or an empty set if there are none
+     */
+    public Set<SpawnerData> getSpawnersInChunk(String worldName, int chunkX, int chunkZ) {
+        Map<Long, Set<SpawnerData>> worldChunks = chunkIndex.get(worldName);
+        if (worldChunks == null) return Collections.emptySet();
+
+        Set<SpawnerData> chunkSpawners = worldChunks.get(getChunkKey(chunkX, chunkZ));
+        return chunkSpawners != null ? chunkSpawners : Collections.emptySet();
+    }
+
+    /**
+     * Gets the spawners inside a block region. Only the chunks the region overlaps are looked at,
+     * or the world's occupied chunks if there are fewer of those.
+     *
+     * @param world The world of the region
+     * @param region The region in block coordinates, a block counts if its center is inside
+     * @return The spawners inside the region
+     */
+    public List<SpawnerData> getSpawnersInRegion(World world, BoundingBox region) {
+        List<SpawnerData> result = new ArrayList<>();
+        for (Set<SpawnerData> chunkSpawners : getChunkBuckets(world.getName(),
+                Location.locToBlock(region.getMinX()) >> 4, Location.locToBlock(region.getMinZ()) >> 4,
+                Location.locToBlock(region.getMaxX()) >> 4, Location.locToBlock(region.getMaxZ()) >> 4)) {
+            for (SpawnerData spawner : chunkSpawners) {
+                Location loc = spawner.getSpawnerLocation();
+                if (region.contains(loc.getBlockX() + 0.5, loc.getBlockY() + 0.5, loc.getBlockZ() + 0.5)) {
+                    result.add(spawner);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the spawners inside a rectangle of chunks. Safe to call from any thread.
+     *
+     * @param worldName The name of the world
+     * @param minChunkX The lowest chunk X coordinate, inclusive
+     * @param minChunkZ The lowest chunk Z coordinate, inclusive
+     * @param maxChunkX The highest chunk X coordinate, inclusive
+     * @param maxChunkZ The highest chunk Z coordinate, inclusive
+     * @return The spawners inside those chunks
+     */
+    public List<SpawnerData> getSpawnersInChunkRange(String worldName, int minChunkX, int minChunkZ,
+                                                     int maxChunkX, int maxChunkZ) {
+        List<SpawnerData> result = new ArrayList<>();
+        for (Set<SpawnerData> chunkSpawners : getChunkBuckets(worldName, minChunkX, minChunkZ, maxChunkX, maxChunkZ)) {
+            result.addAll(chunkSpawners);
+        }
+        return result;
+    }
+
+    // Walks the chunk rectangle, or the world's occupied chunks if there are fewer of those
+    private List<Set<SpawnerData>> getChunkBuckets(String worldName, int minChunkX, int minChunkZ,
+                                                   int maxChunkX, int maxChunkZ) {
+        Map<Long, Set<SpawnerData>> worldChunks = chunkIndex.get(worldName);
+        if (worldChunks == null || minChunkX > maxChunkX || minChunkZ > maxChunkZ) return List.of();
+
+        long rangeChunks = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        List<Set<SpawnerData>> buckets = new ArrayList<>();
+        if (rangeChunks <= worldChunks.size()) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    Set<SpawnerData> chunkSpawners = worldChunks.get(getChunkKey(chunkX, chunkZ));
+                    if (chunkSpawners != null) buckets.add(chunkSpawners);
+                }
+            }
+        } else {
+            worldChunks.forEach((chunkKey, chunkSpawners) -> {
+                int chunkX = (int) (chunkKey >> 32);
+                int chunkZ = (int) (long) chunkKey;
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ) {
+                    buckets.add(chunkSpawners);
+                }
+            });
+        }
+        return buckets;
+    }
+
+    /**
+     * Gets the spawners inside a set of chunks
+     *
+     * @param world The world of the chunks
+     * @param chunkKeys The chunks, packed with {@link #getChunkKey(int, int)}
+     * @return The spawners inside those chunks
+     */
+    public List<SpawnerData> getSpawnersInChunks(World world, Collection<Long> chunkKeys) {
+        Map<Long, Set<SpawnerData>> worldChunks = chunkIndex.get(world.getName());
+        if (worldChunks == null) return List.of();
+
+        List<SpawnerData> result = new ArrayList<>();
+        for (long chunkKey : chunkKeys) {
+            Set<SpawnerData> chunkSpawners = worldChunks.get(chunkKey);
+            if (chunkSpawners != null) result.addAll(chunkSpawners);
+        }
+        return result;
+    }
+
+    /**
+     * Marks a chunk as unloaded, called when a chunk holding spawners unloads
+     *
+     * @param worldName The name of the world
+     * @param chunkX The chunk X coordinate
+     * @param chunkZ The chunk Z coordinate
+     */
+    public void parkChunk(String worldName, int chunkX, int chunkZ) {
+        parkedChunks.computeIfAbsent(worldName, k -> ConcurrentHashMap.newKeySet()).add(getChunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Marks a chunk as loaded again
+     *
+     * @param worldName The name of the world
+     * @param chunkX The chunk X coordinate
+     * @param chunkZ The chunk Z coordinate
+     */
+    public void unparkChunk(String worldName, int chunkX, int chunkZ) {
+        Set<Long> worldParked = parkedChunks.get(worldName);
+        if (worldParked != null) {
+            worldParked.remove(getChunkKey(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Checks whether the spawners of a chunk are parked because the chunk is unloaded.
+     * Safe to call from any thread.
+     *
+     * @param worldName The name of the world
+     * @param chunkX The chunk X coordinate
+     * @param chunkZ The chunk Z coordinate
+     * @return true if the chunk is parked
+     */
+    public boolean isChunkParked(String worldName, int chunkX, int chunkZ) {
+        Set<Long> worldParked = parkedChunks.get(worldName);
+        return worldParked != null && worldParked.contains(getChunkKey(chunkX, chunkZ));
+    }
+
+    private void parkUnloadedChunks() {
+        for (Map.Entry<String, Map<Long, Set<SpawnerData>>> entry : chunkIndex.entrySet()) {
+            World world = Bukkit.getWorld(entry.getKey());
+            if (world == null) continue;
+
+            for (long chunkKey : entry.getValue().keySet()) {
+                int chunkX = (int) (chunkKey >> 32);
+                int chunkZ = (int) chunkKey;
+                if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                    parkChunk(entry.getKey(), chunkX, chunkZ);
+                }
+            }
+        }
+    }
+
     /**
      * Counts spawners in a specific world
      *
@@ -119,8 +568,7 @@ public class SpawnerManager {
      * @return Number of spawners in that world
      */
     public int countSpawnersInWorld(String worldName) {
-        Set<SpawnerData> worldSpawners = worldIndex.get(worldName);
-        return worldSpawners != null ? worldSpawners.size() : 0;
+        return index.getWorldTotals(worldName).spawners();
     }
 
     /**
@@ -130,23 +578,168 @@ public class SpawnerManager {
      * @return Total count including stacked spawners
      */
     public int countTotalSpawnersWithStacks(String worldName) {
-        Set<SpawnerData> worldSpawners = worldIndex.get(worldName);
-        if (worldSpawners == null) return 0;
+        return (int) Math.min(Integer.MAX_VALUE, index.getWorldTotals(worldName).stacks());
+    }
 
-        return worldSpawners.stream()
-                .mapToInt(SpawnerData::getStackSize)
-                .sum();
+    /**
+     * Gets one page of a world's spawners, ordered by ID so a spawner keeps its page while
+     * the list is browsed. Pages are cut from a snapshot that is only rebuilt after that
+     * world's spawners change.
+     *
+     * @param worldName The name of the world
+     * @param page The page number, starting at 1
+     * @param pageSize The number of spawners per page
+     * @return The spawners on that page, empty if the page is out of range
+     */
+    public List<SpawnerData> getSpawnerPage(String worldName, int page, int pageSize) {
+        List<SpawnerData> worldSpawners = index.getWorldSpawners(worldName);
+        int start = (page - 1) * pageSize;
+        if (page < 1 || start >= worldSpawners.size()) return List.of();
+        return worldSpawners.subList(start, Math.min(start + pageSize, worldSpawners.size()));
+    }
+
+    /**
+     * Gets a player's spawner count and total stack size, kept up to date by the index
+     *
+     * @param ownerId The player's UUID
+     * @return The owner's totals, empty if the player owns no spawners
+     */
+    public SpawnerIndex.Totals getOwnerTotals(UUID ownerId) {
+        return index.getOwnerTotals(ownerId);
+    }
+
+    /**
+     * Gets all spawners owned by a player
+     *
+     * @param ownerId The player's UUID
+     * @return Immutable snapshot of the player's spawners
+     */
+    public List<SpawnerData> getSpawnersByOwner(UUID ownerId) {
+        return index.getOwnerSpawners(ownerId);
+    }
+
+    /**
+     * Checks whether a player may own one more spawner under the configured per-player limits.
+     * Reads the owner's running totals, so the cost doesn't grow with the number of spawners.
+     *
+     * @param player The player placing or activating a spawner
+     * @return true if the player is below both limits or may bypass them
+     */
+    public boolean canOwnAnotherSpawner(Player player) {
+        if (player.hasPermission("smartspawner.limit.bypass")) return true;
+
+        SpawnerIndex.Totals totals = index.getOwnerTotals(player.getUniqueId());
+        int maxSpawners = configManager.getMaxSpawnersPerPlayer();
+        int maxStacked = configManager.getMaxStackedPerPlayer();
+        return (maxSpawners <= 0 || totals.spawners() < maxSpawners)
+                && (maxStacked <= 0 || totals.stacks() < maxStacked);
+    }
+
+    /**
+     * Gets how many more spawners can be stacked before the spawner's owner reaches the
+     * configured per-player stack limit. Stacking onto a spawner without an owner claims it
+     * for the player, so the spawner and its current stack count against the player as well.
+     *
+     * @param spawner The spawner being stacked onto
+     * @param player The player stacking, whose limit applies if the spawner has no owner
+     * @return The remaining allowance, Integer.MAX_VALUE if there is no limit
+     */
+    public int getStackAllowance(SpawnerData spawner, Player player) {
+        if (player.hasPermission("smartspawner.limit.bypass")) return Integer.MAX_VALUE;
+
+        long stacks;
+        if (spawner.getOwnerId() == null) {
+            if (!canOwnAnotherSpawner(player)) return 0;
+            stacks = index.getOwnerTotals(player.getUniqueId()).stacks() + spawner.getStackSize();
+        } else {
+            stacks = index.getOwnerTotals(spawner.getOwnerId()).stacks();
+        }
+
+        int maxStacked = configManager.getMaxStackedPerPlayer();
+        if (maxStacked <= 0) return Integer.MAX_VALUE;
+        return (int) Math.max(0, maxStacked - stacks);
+    }
+
+    /**
+     * Makes the player the owner of a spawner that has none, called before stacking onto it
+     * so the added stacks count against the player's limits. Owned spawners are left alone.
+     *
+     * @param spawner The spawner being stacked onto
+     * @param player The player stacking
+     */
+    public void claimOwnership(SpawnerData spawner, Player player) {
+        if (spawner.getOwnerId() != null) return;
+
+        spawner.setOwnerId(player.getUniqueId());
+        markSpawnerModified(spawner.getSpawnerId());
+    }
+
+    /**
+     * Gets the secondary indexes for statistics by world, owner, entity type and stack size
+     *
+     * @return The spawner index
+     */
+    public SpawnerIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Recounts a spawner in the secondary indexes after its stack size, entity type or owner changed
+     *
+     * @param spawner The changed spawner
+     */
+    public void refreshIndex(SpawnerData spawner) {
+        index.refresh(spawner);
     }
 
     /**
      * Rebuilds world indexes - useful after world loads/unloads
      */
     public void reindexWorlds() {
-        worldIndex.clear();
-        for (SpawnerData spawner : spawners.values()) {
-            String worldName = spawner.getSpawnerLocation().getWorld().getName();
-            worldIndex.computeIfAbsent(worldName, k -> new HashSet<>()).add(spawner);
+        index.clear();
+        spawners.values().forEach(index::add);
+    }
+
+    /**
+     * Generates an ID for a new spawner, 64 random bits written as 16 hex digits. IDs of registered
+     * spawners and of spawners stored for unloaded worlds are never handed out again.
+     * Spawners created before keep their shorter IDs.
+     *
+     * @return A spawner ID not used by any known spawner
+     */
+    public String generateSpawnerId() {
+        String id;
+        do {
+            id = String.format("%016x", ThreadLocalRandom.current().nextLong());
+        } while (spawners.containsKey(id) || pendingPageOuts.containsKey(id) || fileHandler.hasStoredSpawner(id));
+        return id;
+    }
+
+    /**
+     * Gets a registered spawner by its in-memory handle. Safe to call from any thread.
+     *
+     * @param handle The handle from {@link SpawnerData#getHandle()}
+     * @return The spawner, or null if no spawner holds the handle
+     */
+    public SpawnerData getSpawnerByHandle(int handle) {
+        return handles.get(handle);
+    }
+
+    // Range tracking, GUI viewers and hopper locks are keyed by handle, so they are dropped before the handle can be reused
+    private void releaseHandle(SpawnerData spawner) {
+        SpawnerRangeChecker rangeChecker = plugin.getRangeChecker();
+        if (rangeChecker != null) {
+            rangeChecker.stopSpawnerTask(spawner);
+        }
+        SpawnerGuiViewManager guiViewManager = plugin.getSpawnerGuiManager();
+        if (guiViewManager != null) {
+            guiViewManager.releaseSpawner(spawner);
+        }
+        HopperHandler hopperHandler = plugin.getHopperHandler();
+        if (hopperHandler != null) {
+            hopperHandler.releaseSpawner(spawner);
         }
+        handles.release(spawner);
     }
 
     /**
@@ -156,7 +749,16 @@ public class SpawnerManager {
      * @return The spawner at that location, or null if none exists
      */
     public SpawnerData getSpawnerByLocation(Location location) {
-        return locationIndex.get(new LocationKey(location));
+        World world = location.getWorld();
+        if (world == null) return null;
+
+        LongObjectMap<SpawnerData> worldLocations = locationIndex.get(world.getUID());
+        if (worldLocations == null) return null;
+
+        long key = getBlockKey(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        synchronized (worldLocations) {
+            return worldLocations.get(key);
+        }
     }
 
     /**
@@ -170,12 +772,22 @@ public class SpawnerManager {
     }
 
     /**
-     * Gets all spawners currently managed
+     * Gets all spawners currently managed. Safe to call from any thread, the list is an
+     * immutable snapshot shared between callers until the registry changes.
      *
-     * @return List of all spawner data objects
+     * @return Immutable list of all spawner data objects
      */
     public List<SpawnerData> getAllSpawners() {
-        return new ArrayList<>(spawners.values());
+        long version = registryVersion.get();
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version) {
+            return current.spawners();
+        }
+
+        // A write racing with the copy bumps the version again, so a stale list is never reused
+        List<SpawnerData> list = List.copyOf(spawners.values());
+        snapshot = new Snapshot(version, list);
+        return list;
     }
 
 
@@ -185,76 +797,310 @@ public class SpawnerManager {
     public void loadSpawnerData() {
         // Clear existing data
         spawners.clear();
+        handles.clear();
         locationIndex.clear();
-        worldIndex.clear();
+        invalidateSnapshot();
+        index.clear();
+        chunkIndex.clear();
+        parkedChunks.clear();
 
         // Load spawners from file handler
         Map<String, SpawnerData> loadedSpawners = fileHandler.loadAllSpawners();
         boolean hologramEnabled = configManager.isHologramEnabled();
 
-        // Add all loaded spawners to our indexes
+        registerLoadedSpawners(loadedSpawners);
+
+        // Check for ghost spawners after initial load, as the chunks may not have been loaded
+        // during the initial file loading process
+        plugin.getTaskScheduler().runGlobalLater(this::startGhostSweep, 20L * 5); // Run after 5 seconds
+
+        // Update holograms if enabled
+        if (hologramEnabled && !spawners.isEmpty()) {
+            removeAllGhostsHolograms();
+            logger.info("Updating holograms for all spawners...");
+            for (SpawnerData spawner : spawners.values()) {
+                plugin.getTaskScheduler().runAtLocation(spawner.getSpawnerLocation(), spawner::updateHologramData);
+            }
+        }
+    }
+
+    // Adds spawners read from storage to all indexes, location maps are built first and merged once per world
+    private void registerLoadedSpawners(Map<String, SpawnerData> loadedSpawners) {
+        Map<UUID, LongObjectMap<SpawnerData>> loadedLocations = new HashMap<>();
         for (Map.Entry<String, SpawnerData> entry : loadedSpawners.entrySet()) {
             String spawnerId = entry.getKey();
             SpawnerData spawner = entry.getValue();
 
+            handles.allocate(spawner);
             spawners.put(spawnerId, spawner);
-            locationIndex.put(new LocationKey(spawner.getSpawnerLocation()), spawner);
 
-            // Add to world index
-            World world = spawner.getSpawnerLocation().getWorld();
+            // Add to the location, secondary and chunk indexes
+            Location loc = spawner.getSpawnerLocation();
+            World world = loc.getWorld();
             if (world != null) {
-                String worldName = world.getName();
-                worldIndex.computeIfAbsent(worldName, k -> new HashSet<>()).add(spawner);
+                loadedLocations.computeIfAbsent(world.getUID(), k -> new LongObjectMap<>())
+                        .put(getBlockKey(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()), spawner);
+                index.add(spawner);
+                addToChunkIndex(spawner);
             }
         }
 
-        // Check for ghost spawners after initial load, as the chunks may not have been loaded
-        // during the initial file loading process
-        Bukkit.getScheduler().runTaskLater(plugin, this::removeGhostSpawners, 20L * 5); // Run after 5 seconds
+        loadedLocations.forEach((worldId, loaded) -> {
+            // A world nothing was indexed for yet takes the built map as is
+            LongObjectMap<SpawnerData> worldLocations = locationIndex.putIfAbsent(worldId, loaded);
+            if (worldLocations == null) return;
 
-        // Update holograms if enabled
-        if (hologramEnabled && !spawners.isEmpty()) {
-            removeAllGhostsHolograms();
-            Bukkit.getScheduler().runTask(plugin, () -> {
-                logger.info("Updating holograms for all spawners...");
-                spawners.values().forEach(SpawnerData::updateHologramData);
+            synchronized (worldLocations) {
+                loaded.forEachValue(spawner -> {
+                    Location loc = spawner.getSpawnerLocation();
+                    worldLocations.put(getBlockKey(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()), spawner);
+                });
+            }
+        });
+        invalidateSnapshot();
+        parkUnloadedChunks();
+    }
+
+    /**
+     * Pages a world's spawners in from storage, called when the world loads. Spawners that
+     * are already registered are left alone, so worlds loaded during startup aren't read twice.
+     * Spawners whose page-out write is still pending are paged in once that write succeeds.
+     *
+     * @param world The world that loaded
+     * @return The number of spawners paged in
+     */
+    public int loadWorldSpawners(World world) {
+        Map<String, SpawnerData> loadedSpawners = fileHandler.loadWorldSpawners(world.getName());
+        loadedSpawners.keySet().removeIf(id -> spawners.containsKey(id) || pendingPageOuts.containsKey(id));
+        if (loadedSpawners.isEmpty()) return 0;
+
+        // Stopped until the range checker finds players nearby, same as spawners loaded at startup
+        loadedSpawners.values().forEach(spawner -> spawner.setSpawnerStop(true));
+        registerLoadedSpawners(loadedSpawners);
+        // The spawn chunks loaded before the world load event, their chunk load didn't see these spawners
+        suppressLoadedSpawners(loadedSpawners.values());
+        return loadedSpawners.size();
+    }
+
+    /**
+     * Pages a world's spawners out, called when the world unloads. They are stopped and removed
+     * from every index right away, then written with a single save. Until that write has
+     * succeeded they are held aside and written again if it fails, so they are never lost
+     * and never left half registered.
+     *
+     * @param world The world that is unloading
+     * @return The number of spawners paged out
+     */
+    public int unloadWorldSpawners(World world) {
+        String worldName = world.getName();
+        List<SpawnerData> worldSpawners = index.getWorldSpawners(worldName);
+        if (worldSpawners.isEmpty()) return 0;
+
+        SpawnerRangeChecker rangeChecker = plugin.getRangeChecker();
+        SpawnerGuiViewManager guiViewManager = plugin.getSpawnerGuiManager();
+        Map<String, SpawnerData> pagedOut = new LinkedHashMap<>();
+
+        for (SpawnerData spawner : worldSpawners) {
+            if (!spawners.remove(spawner.getSpawnerId(), spawner)) continue;
+
+            spawner.setSpawnerStop(true);
+            if (rangeChecker != null) rangeChecker.stopSpawnerTask(spawner);
+            if (guiViewManager != null) guiViewManager.closeAllViewersInventory(spawner);
+            spawner.removeHologram();
+            index.remove(spawner);
+            releaseHandle(spawner);
+            pendingPageOuts.put(spawner.getSpawnerId(), spawner);
+            pagedOut.put(spawner.getSpawnerId(), spawner);
+        }
+
+        // The world's blocks are gone, so its location indexes are dropped as a whole
+        locationIndex.remove(world.getUID());
+        chunkIndex.remove(worldName);
+        parkedChunks.remove(worldName);
+        invalidateSnapshot();
+
+        writePageOut(worldName, pagedOut);
+        return pagedOut.size();
+    }
+
+    private void writePageOut(String worldName, Map<String, SpawnerData> pagedOut) {
+        fileHandler.saveBatch(pagedOut, Collections.emptyList()).whenComplete((saved, error) ->
+                plugin.getTaskScheduler().runGlobal(() -> finishPageOut(worldName, pagedOut, Boolean.TRUE.equals(saved))));
+    }
+
+    private void finishPageOut(String worldName, Map<String, SpawnerData> pagedOut, boolean saved) {
+        if (!saved) {
+            logger.warning("Could not write the " + pagedOut.size() + " spawners of unloaded world " + worldName
+                    + ", retrying in " + PAGE_OUT_RETRY_TICKS / 20 + " seconds");
+            plugin.getTaskScheduler().runGlobalLater(() -> writePageOut(worldName, pagedOut), PAGE_OUT_RETRY_TICKS);
+            return;
+        }
+
+        pagedOut.forEach(pendingPageOuts::remove);
+
+        // The world came back while the write was pending, page it in again from what was just written
+        World reloaded = Bukkit.getWorld(worldName);
+        if (reloaded != null) {
+            loadWorldSpawners(reloaded);
+        }
+    }
+
+    /**
+     * Checks the spawners of a loaded chunk and removes those whose block is gone.
+     * Called when a chunk loads, so validation itself never loads a chunk.
+     *
+     * @param worldName The name of the world
+     * @param chunkX The chunk X coordinate
+     * @param chunkZ The chunk Z coordinate
+     */
+    public void validateChunk(String worldName, int chunkX, int chunkZ) {
+        long now = System.currentTimeMillis();
+        long revalidateMillis = configManager.getGhostCheckRevalidateAfter() * 3_600_000L;
+
+        for (SpawnerData spawner : getSpawnersInChunk(worldName, chunkX, chunkZ)) {
+            if (spawner.getSpawnerLocation().getBlock().getType() != Material.SPAWNER) {
+                removeGhostSpawner(spawner);
+            } else if (now - spawner.getLastValidated() >= revalidateMillis) {
+                // The marker is only persisted once it is stale, so ordinary chunk loads don't queue saves
+                spawner.setLastValidated(now);
+                markSpawnerModified(spawner.getSpawnerId());
+            }
+        }
+    }
+
+    /**
+     * Starts a background sweep over chunks holding spawners not validated within the
+     * revalidation interval. A few chunks are checked per second, unloaded ones are loaded
+     * through the async chunk API instead of blocking the main thread.
+     */
+    public void startGhostSweep() {
+        if (ghostSweepTask != null) {
+            ghostSweepTask.cancel();
+        }
+        ghostSweepQueue.clear();
+
+        long staleBefore = System.currentTimeMillis() - configManager.getGhostCheckRevalidateAfter() * 3_600_000L;
+        for (Map.Entry<String, Map<Long, Set<SpawnerData>>> worldEntry : chunkIndex.entrySet()) {
+            for (Map.Entry<Long, Set<SpawnerData>> chunkEntry : worldEntry.getValue().entrySet()) {
+                for (SpawnerData spawner : chunkEntry.getValue()) {
+                    if (spawner.getLastValidated() < staleBefore) {
+                        long chunkKey = chunkEntry.getKey();
+                        ghostSweepQueue.add(new GhostCheck(worldEntry.getKey(), (int) (chunkKey >> 32), (int) chunkKey));
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (ghostSweepQueue.isEmpty()) return;
+        configManager.debug("Validating spawners in " + ghostSweepQueue.size() + " chunks");
+        ghostSweepTask = plugin.getTaskScheduler().runGlobalTimer(this::runGhostSweep, 1L, 20L);
+    }
+
+    private void runGhostSweep() {
+        int budget = Math.max(1, configManager.getGhostCheckChunksPerSecond());
+        GhostCheck check;
+        while (budget-- > 0 && (check = ghostSweepQueue.poll()) != null) {
+            World world = Bukkit.getWorld(check.worldName());
+            if (world == null) continue;
+
+            GhostCheck target = check;
+            Location chunkLoc = new Location(world, check.chunkX() << 4, 0, check.chunkZ() << 4);
+            if (world.isChunkLoaded(check.chunkX(), check.chunkZ())) {
+                plugin.getTaskScheduler().runAtLocation(chunkLoc,
+                        () -> validateChunk(target.worldName(), target.chunkX(), target.chunkZ()));
+                continue;
+            }
+
+            // The load fires ChunkLoadEvent, which validates the chunk, it unloads again on its own
+            world.getChunkAtAsync(check.chunkX(), check.chunkZ(), false).thenAccept(chunk -> {
+                if (chunk == null) {
+                    // The chunk was never generated, e.g. after a map trim, none of its spawners exist
+                    plugin.getTaskScheduler().runGlobal(() -> getSpawnersInChunk(target.worldName(), target.chunkX(), target.chunkZ())
+                            .forEach(this::removeGhostSpawner));
+                }
             });
         }
+
+        if (ghostSweepQueue.isEmpty() && ghostSweepTask != null) {
+            ghostSweepTask.cancel();
+            ghostSweepTask = null;
+        }
     }
 
     /**
-     * Checks for and removes ghost spawners (spawners without physical blocks)
+     * Suppresses vanilla ticking of the given spawners whose chunks are already loaded. Chunks that
+     * loaded before their spawners were registered never saw them on chunk load, and the spawn
+     * event listener only handles blocks that are already suppressed. Blocks owned by another
+     * thread are handed to it, those aren't part of the debug count.
+     *
+     * @param spawners The spawners to suppress, switched off ones are left to vanilla
      */
-    public void removeGhostSpawners() {
-        int removedCount = 0;
-        List<String> ghostSpawnerIds = new ArrayList<>();
+    public void suppressLoadedSpawners(Collection<SpawnerData> spawners) {
+        AtomicInteger suppressed = new AtomicInteger();
+        for (SpawnerData spawner : spawners) {
+            if (!spawner.getSpawnerActive()) continue;
 
-        // Find ghost spawners
-        for (Map.Entry<String, SpawnerData> entry : spawners.entrySet()) {
-            String spawnerId = entry.getKey();
-            SpawnerData spawner = entry.getValue();
             Location loc = spawner.getSpawnerLocation();
+            plugin.getTaskScheduler().executeAtLocation(loc, () -> {
+                World world = loc.getWorld();
+                if (world != null && world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)
+                        && VanillaSpawnerSuppressor.suppress(loc.getBlock())) {
+                    suppressed.incrementAndGet();
+                }
+            });
+        }
 
-            // Check if the chunk is loaded, if not, load it temporarily
-            if (!loc.getChunk().isLoaded()) {
-                loc.getChunk().load(true);
-            }
+        if (suppressed.get() > 0) {
+            configManager.debug("Suppressed vanilla ticking for " + suppressed.get() + " spawners");
+        }
+    }
 
-            // Check if the block at the location is a spawner
-            if (loc.getBlock().getType() != Material.SPAWNER) {
-                ghostSpawnerIds.add(spawnerId);
+    // Hands the block back to vanilla once the plugin stops managing it, unloaded chunks are not loaded for this
+    private void restoreVanillaTicking(SpawnerData spawner) {
+        Location loc = spawner.getSpawnerLocation();
+        plugin.getTaskScheduler().executeAtLocation(loc, () -> {
+            World world = loc.getWorld();
+            if (world != null && world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) {
+                VanillaSpawnerSuppressor.restore(loc.getBlock());
             }
+        });
+    }
+
+    private void removeGhostSpawner(SpawnerData spawner) {
+        logger.info("Removing ghost spawner with ID: " + spawner.getSpawnerId());
+        if (plugin.getRangeChecker() != null) {
+            plugin.getRangeChecker().stopSpawnerTask(spawner);
         }
+        removeSpawner(spawner.getSpawnerId());
+    }
+
+    /**
+     * Compresses the storage of spawners with no viewers and no storage activity
+     * within the configured idle time. Compacted storage is rehydrated on next access.
+     * Spawners whose lock is held, e.g. by a sale or loot generation, are skipped until the next run.
+     */
+    public void compactIdleInventories() {
+        if (!configManager.isStorageCompactionEnabled()) return;
+
+        long idleMillis = configManager.getStorageCompactionIdleTime() * 1000L;
+        long now = System.currentTimeMillis();
+        int compacted = 0;
 
-        // Remove ghost spawners
-        for (String ghostId : ghostSpawnerIds) {
-            logger.info("Removing ghost spawner with ID: " + ghostId);
-            removeSpawner(ghostId);
-            removedCount++;
+        for (SpawnerData spawner : spawners.values()) {
+            if (compacted >= MAX_COMPACTIONS_PER_RUN) break;
+
+            VirtualInventory virtualInv = spawner.getVirtualInventory();
+            if (virtualInv.isCold() || now - virtualInv.getLastAccessTime() < idleMillis) continue;
+            if (plugin.getSpawnerGuiManager() != null && plugin.getSpawnerGuiManager().hasViewers(spawner)) continue;
+
+            if (virtualInv.compact()) {
+                compacted++;
+            }
         }
 
-        if (removedCount > 0) {
-            logger.info("Removed " + removedCount + " ghost spawners.");
+        if (compacted > 0) {
+            configManager.debug("Compacted storage of " + compacted + " idle spawners");
         }
     }
 
@@ -280,7 +1126,10 @@ public class SpawnerManager {
      * Saves all spawner data to file - mainly used for server shutdown
      */
     public void saveSpawnerData() {
-        fileHandler.saveAllSpawners(spawners);
+        // Spawners still waiting for their page-out write would otherwise be dropped from the file
+        Map<String, SpawnerData> toSave = new HashMap<>(pendingPageOuts);
+        toSave.putAll(spawners);
+        fileHandler.saveAllSpawners(toSave);
     }
 
     /**
@@ -309,10 +1158,17 @@ public class SpawnerManager {
     }
 
     public void cleanupAllSpawners() {
+        fileHandler.shutdown();
         for (SpawnerData spawner : spawners.values()) {
             spawner.removeHologram();
         }
         spawners.clear();
+        pendingPageOuts.clear();
+        handles.clear();
         locationIndex.clear();
+        index.clear();
+        chunkIndex.clear();
+        parkedChunks.clear();
+        invalidateSnapshot();
     }
 }
\ No newline at end of file
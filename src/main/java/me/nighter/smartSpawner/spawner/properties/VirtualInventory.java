@@ -1,19 +1,36 @@
 package me.nighter.smartSpawner.spawner.properties;
 
 import org.bukkit.inventory.ItemStack;
+
+import java.io.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class VirtualInventory {
-    private final Map<ItemSignature, Long> consolidatedItems;
-    private final int maxSlots;
-    private final Map<Integer, ItemStack> displayInventoryCache;
+    private static final Logger logger = Logger.getLogger("SmartSpawner");
+    private Map<ItemSignature, Long> consolidatedItems;
+    private int maxSlots;
+    private Map<Integer, ItemStack> displayInventoryCache;
+    // Signature backing each display slot, rebuilt together with the display cache
+    private Map<Integer, ItemSignature> displaySignatureCache;
+    // Encoded copy of the stored items while the inventory is cold, null while it is live
+    private volatile byte[] coldData;
+    private volatile long lastAccessTime;
+    // Signature count at compaction, so reports don't have to rehydrate a cold inventory
+    private int coldSignatureCount;
     private boolean displayCacheDirty;
-    private int usedSlotsCache;
-    private long totalItemsCache;
-    private boolean metricsCacheDirty;
+    // Exact slot count and item total, maintained incrementally on every mutation
+    private volatile int requiredSlots;
+    private volatile long totalItems;
+    // Guards contents and caches, replaced by the owning spawner's lock once bound
+    private volatile ReentrantLock lock = new ReentrantLock();
     // Cache sorted entries to avoid resorting when display isn't changing
     private List<Map.Entry<ItemSignature, Long>> sortedEntriesCache;
+    private final List<ChangeListener> listeners;
 
     // Simple item comparator that only sorts by material name
     private static final Comparator<Map.Entry<ItemSignature, Long>> ITEM_COMPARATOR =
@@ -23,11 +40,36 @@ public class VirtualInventory {
         this.maxSlots = maxSlots;
         this.consolidatedItems = new ConcurrentHashMap<>();
         this.displayInventoryCache = new HashMap<>(maxSlots); // Pre-size the map
+        this.displaySignatureCache = new HashMap<>(maxSlots);
         this.displayCacheDirty = true;
-        this.metricsCacheDirty = true;
-        this.usedSlotsCache = 0;
-        this.totalItemsCache = 0;
+        this.requiredSlots = 0;
+        this.totalItems = 0;
         this.sortedEntriesCache = null;
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.lastAccessTime = System.currentTimeMillis();
+    }
+
+    // Share the spawner's lock, so shop and hopper code holding it can't race storage changes or compaction
+    void bindLock(ReentrantLock lock) {
+        this.lock = lock;
+    }
+
+    /**
+     * Summary of a single mutation, published once per addItems/removeItems call.
+     *
+     * @param addedSignatures   signatures that were not stored before this mutation
+     * @param removedSignatures signatures that are no longer stored after this mutation
+     * @param countDelta        change in the total number of stored items
+     * @param usedSlotsDelta    change in the number of used slots
+     * @param capacityCrossed   whether the inventory entered or left the full state
+     * @param atCapacity        whether the inventory is full after this mutation
+     */
+    public record InventoryChange(Set<ItemSignature> addedSignatures, Set<ItemSignature> removedSignatures,
+                                  long countDelta, int usedSlotsDelta, boolean capacityCrossed, boolean atCapacity) {}
+
+    @FunctionalInterface
+    public interface ChangeListener {
+        void onInventoryChange(VirtualInventory inventory, InventoryChange change);
     }
 
     public static class ItemSignature {
@@ -82,27 +124,59 @@ public class VirtualInventory {
     // Add items in bulk with minimal operations
     public void addItems(List<ItemStack> items) {
         if (items.isEmpty()) return;
+        ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            addItemsLocked(items);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addItemsLocked(List<ItemStack> items) {
+        ensureHot();
 
         // Process items in a single batch
         boolean updated = false;
+        Set<ItemSignature> added = null;
+        long countDelta = 0;
+        int slotDelta = 0;
         for (ItemStack item : items) {
             if (item == null || item.getAmount() <= 0) continue;
 
             ItemSignature sig = new ItemSignature(item);
-            consolidatedItems.merge(sig, (long) item.getAmount(), Long::sum);
+            long amount = item.getAmount();
+            long newAmount = consolidatedItems.merge(sig, amount, Long::sum);
+            long oldAmount = newAmount - amount;
+
+            if (oldAmount == 0) {
+                if (added == null) added = new HashSet<>();
+                added.add(sig);
+            }
+            countDelta += amount;
+            slotDelta += slotsFor(sig, newAmount) - slotsFor(sig, oldAmount);
             updated = true;
         }
 
         if (updated) {
-            displayCacheDirty = true;
-            metricsCacheDirty = true;
-            sortedEntriesCache = null; // Invalidate sorted entries cache
+            applyChange(added, null, countDelta, slotDelta);
         }
     }
 
     // Remove items in bulk with minimal operations
     public boolean removeItems(List<ItemStack> items) {
         if (items.isEmpty()) return true;
+        ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return removeItemsLocked(items);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean removeItemsLocked(List<ItemStack> items) {
+        ensureHot();
 
         Map<ItemSignature, Long> toRemove = new HashMap<>();
 
@@ -124,30 +198,119 @@ public class VirtualInventory {
         }
 
         // Perform removals all at once
-        boolean updated = false;
+        Set<ItemSignature> removed = null;
+        long countDelta = 0;
+        int slotDelta = 0;
         for (Map.Entry<ItemSignature, Long> entry : toRemove.entrySet()) {
             ItemSignature sig = entry.getKey();
             long amountToRemove = entry.getValue();
+            long oldAmount = consolidatedItems.getOrDefault(sig, 0L);
+            long newAmount = Math.max(0, oldAmount - amountToRemove);
+
+            if (newAmount == 0) {
+                consolidatedItems.remove(sig);
+                if (removed == null) removed = new HashSet<>();
+                removed.add(sig);
+            } else {
+                consolidatedItems.put(sig, newAmount);
+            }
 
-            consolidatedItems.computeIfPresent(sig, (key, current) -> {
-                long newAmount = current - amountToRemove;
-                return newAmount <= 0 ? null : newAmount;
-            });
+            countDelta -= oldAmount - newAmount;
+            slotDelta += slotsFor(sig, newAmount) - slotsFor(sig, oldAmount);
+        }
 
-            updated = true;
+        applyChange(null, removed, countDelta, slotDelta);
+        return true;
+    }
+
+    private static int slotsFor(ItemSignature sig, long amount) {
+        if (amount <= 0) return 0;
+        int maxStackSize = sig.getTemplateRef().getMaxStackSize();
+        return (int) ((amount + maxStackSize - 1) / maxStackSize);
+    }
+
+    // Update running metrics, invalidate display caches and notify listeners of one mutation
+    private void applyChange(Set<ItemSignature> added, Set<ItemSignature> removed, long countDelta, int slotDelta) {
+        int oldUsedSlots = getUsedSlots();
+        boolean wasAtCapacity = oldUsedSlots >= maxSlots;
+
+        requiredSlots += slotDelta;
+        totalItems += countDelta;
+        displayCacheDirty = true;
+        sortedEntriesCache = null; // Invalidate sorted entries cache
+
+        publishChange(added, removed, countDelta, oldUsedSlots, wasAtCapacity);
+    }
+
+    // Change the slot limit in place, stored items and signatures are left untouched
+    public void resize(int newMaxSlots) {
+        ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            resizeLocked(newMaxSlots);
+        } finally {
+            lock.unlock();
         }
+    }
 
-        if (updated) {
+    private void resizeLocked(int newMaxSlots) {
+        if (newMaxSlots == maxSlots) return;
+
+        int oldUsedSlots = getUsedSlots();
+        boolean wasAtCapacity = oldUsedSlots >= maxSlots;
+        int oldMaxSlots = maxSlots;
+        this.maxSlots = newMaxSlots;
+
+        // The display only changes if it was, or now is, truncated by the slot limit
+        if (requiredSlots > Math.min(oldMaxSlots, newMaxSlots)) {
             displayCacheDirty = true;
-            metricsCacheDirty = true;
-            sortedEntriesCache = null; // Invalidate sorted entries cache
         }
 
-        return true;
+        publishChange(null, null, 0, oldUsedSlots, wasAtCapacity);
+    }
+
+    private void publishChange(Set<ItemSignature> added, Set<ItemSignature> removed, long countDelta,
+                               int oldUsedSlots, boolean wasAtCapacity) {
+        if (listeners.isEmpty()) return;
+
+        int usedSlots = getUsedSlots();
+        boolean atCapacity = usedSlots >= maxSlots;
+        InventoryChange change = new InventoryChange(
+                added != null ? added : Collections.emptySet(),
+                removed != null ? removed : Collections.emptySet(),
+                countDelta,
+                usedSlots - oldUsedSlots,
+                atCapacity != wasAtCapacity,
+                atCapacity
+        );
+
+        for (ChangeListener listener : listeners) {
+            listener.onInventoryChange(this, change);
+        }
+    }
+
+    public void addChangeListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(ChangeListener listener) {
+        listeners.remove(listener);
     }
 
     // Optimized getDisplayInventory method
     public Map<Integer, ItemStack> getDisplayInventory() {
+        ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return buildDisplayInventory();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<Integer, ItemStack> buildDisplayInventory() {
+        ensureHot();
+
         // Return cached result if available
         if (!displayCacheDirty) {
             // Return a shallow copy to prevent modification of the cache
@@ -156,10 +319,10 @@ public class VirtualInventory {
 
         // Clear the cache for a fresh rebuild but reuse the existing map
         displayInventoryCache.clear();
+        displaySignatureCache.clear();
 
         if (consolidatedItems.isEmpty()) {
             displayCacheDirty = false;
-            usedSlotsCache = 0;
             return Collections.emptyMap();
         }
 
@@ -191,6 +354,7 @@ public class VirtualInventory {
 
                 // Store in cache
                 displayInventoryCache.put(currentSlot, displayItem);
+                displaySignatureCache.put(currentSlot, sig);
 
                 totalAmount -= stackSize;
                 currentSlot++;
@@ -199,56 +363,175 @@ public class VirtualInventory {
 
         // Update cache state
         displayCacheDirty = false;
-        usedSlotsCache = displayInventoryCache.size();
 
         // Return unmodifiable map to prevent external changes
         return Collections.unmodifiableMap(displayInventoryCache);
     }
 
+    // Signature shown in a display slot as of the last display build, null if empty.
+    // Instances stay the same while the item remains stored, so identity comparison is safe
+    public ItemSignature getDisplaySignature(int slot) {
+        ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return displaySignatureCache.get(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public int getMaxSlots() {
         return maxSlots;
     }
 
     public long getTotalItems() {
-        if (metricsCacheDirty) {
-            updateMetricsCache();
-        }
-        return totalItemsCache;
+        return totalItems;
     }
 
+    // Saving reads this for every dirty spawner, so a cold inventory is decoded into a copy and stays cold
     public Map<ItemSignature, Long> getConsolidatedItems() {
-        return new HashMap<>(consolidatedItems);
+        ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (coldData != null) {
+                return decodeColdData();
+            }
+            return new HashMap<>(consolidatedItems);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public int getUsedSlots() {
-        // If cache is dirty but we haven't regenerated the display inventory yet,
-        // calculate a quick estimate instead of rebuilding the whole display
-        if (displayCacheDirty) {
-            if (consolidatedItems.isEmpty()) {
-                return 0;
-            }
+        // Display slots are capped at max slots, so report the same value without rebuilding the display
+        return Math.min(requiredSlots, maxSlots);
+    }
 
-            // Quick estimate - not perfectly accurate but avoids full rebuilds
-            int estimatedSlots = 0;
-            for (Map.Entry<ItemSignature, Long> entry : consolidatedItems.entrySet()) {
-                long amount = entry.getValue();
-                int maxStackSize = entry.getKey().getTemplateRef().getMaxStackSize();
-                estimatedSlots += (int) Math.ceil((double) amount / maxStackSize);
-                if (estimatedSlots >= maxSlots) {
-                    return maxSlots; // Cap at max slots
-                }
-            }
-            return estimatedSlots;
+    // ===============================================================
+    //                    Cold Storage
+    // ===============================================================
+
+    public boolean isCold() {
+        return coldData != null;
+    }
+
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    // Encode the stored items into a compact byte array and drop the live map and display caches.
+    // Slot and item counts are kept, so capacity checks and holograms keep working while cold.
+    // Skipped while the spawner lock is held elsewhere, a busy spawner isn't idle anyway
+    public boolean compact() {
+        ReentrantLock lock = this.lock;
+        if (!lock.tryLock()) return false;
+        try {
+            return compactLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean compactLocked() {
+        if (coldData != null || consolidatedItems.isEmpty()) return false;
+
+        byte[] data;
+        try {
+            data = encode(consolidatedItems);
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+
+        coldData = data;
+        coldSignatureCount = consolidatedItems.size();
+        consolidatedItems = new ConcurrentHashMap<>();
+        displayInventoryCache = new HashMap<>();
+        displaySignatureCache = new HashMap<>();
+        sortedEntriesCache = null;
+        displayCacheDirty = true;
+        return true;
+    }
+
+    // Rehydrate on first real access, cold inventories are otherwise invisible to callers.
+    // Only called with the lock held
+    private void ensureHot() {
+        lastAccessTime = System.currentTimeMillis();
+        if (coldData != null) {
+            rehydrate();
         }
+    }
+
+    private void rehydrate() {
+        if (coldData == null) return;
 
-        return usedSlotsCache;
+        Map<ItemSignature, Long> items = decodeColdData();
+        consolidatedItems = new ConcurrentHashMap<>(items);
+        coldData = null;
+        coldSignatureCount = 0;
+        displayCacheDirty = true;
     }
 
-    private void updateMetricsCache() {
-        totalItemsCache = consolidatedItems.values().stream()
-                .mapToLong(Long::longValue)
-                .sum();
-        metricsCacheDirty = false;
+    // Corrupt bytes can't be recovered, they are dropped once and the inventory carries on empty
+    // instead of failing every later access. Only called with the lock held
+    private Map<ItemSignature, Long> decodeColdData() {
+        try {
+            return decode(coldData);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Dropping corrupted cold inventory data holding " + totalItems + " items", e);
+            coldData = null;
+            coldSignatureCount = 0;
+            applyChange(null, null, -totalItems, -requiredSlots);
+            return new HashMap<>();
+        }
+    }
+
+    public int getSignatureCount() {
+        return coldData != null ? coldSignatureCount : consolidatedItems.size();
+    }
+
+    public int getDisplayCacheSize() {
+        ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return displayInventoryCache.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getColdDataSize() {
+        byte[] data = coldData;
+        return data != null ? data.length : 0;
+    }
+
+    private static byte[] encode(Map<ItemSignature, Long> items) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(items.size());
+            for (Map.Entry<ItemSignature, Long> entry : items.entrySet()) {
+                byte[] item = entry.getKey().getTemplateRef().serializeAsBytes();
+                out.writeInt(item.length);
+                out.write(item);
+                out.writeLong(entry.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Map<ItemSignature, Long> decode(byte[] data) {
+        Map<ItemSignature, Long> items = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                byte[] item = new byte[in.readInt()];
+                in.readFully(item);
+                long amount = in.readLong();
+                items.put(new ItemSignature(ItemStack.deserializeBytes(item)), amount);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupted cold inventory data", e);
+        }
+        return items;
     }
 
     public boolean isDirty() {
@@ -0,0 +1,111 @@
+package me.nighter.smartSpawner.spawner.properties.utils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Map from dense spawner handles to objects, backed by arrays indexed by the handle itself.
+ * Lookups neither hash nor box the key. Null values are not supported, a null slot is empty.
+ * <p>
+ * Safe to use from any thread. Slots live in fixed size pages that are never copied, so a write
+ * can't get lost while the table grows, only the small array of pages is replaced on growth.
+ * Negative handles belong to released spawners and are never stored.
+ *
+ * @param <V> The value type
+ */
+public class HandleTable<V> {
+    private static final int PAGE_BITS = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private volatile AtomicReferenceArray<V>[] pages = newPages(1);
+
+    @SuppressWarnings("unchecked")
+    private static <V> AtomicReferenceArray<V>[] newPages(int count) {
+        return (AtomicReferenceArray<V>[]) new AtomicReferenceArray[count];
+    }
+
+    // The page holding the handle, null if nothing was ever stored there
+    private AtomicReferenceArray<V> page(int handle) {
+        if (handle < 0) return null;
+        AtomicReferenceArray<V>[] current = pages;
+        int index = handle >>> PAGE_BITS;
+        return index < current.length ? current[index] : null;
+    }
+
+    private AtomicReferenceArray<V> pageForWrite(int handle) {
+        AtomicReferenceArray<V> page = page(handle);
+        return page != null ? page : allocatePage(handle >>> PAGE_BITS);
+    }
+
+    // Pages are published through a fresh copy of the page array, so readers never see a half built one
+    private synchronized AtomicReferenceArray<V> allocatePage(int index) {
+        AtomicReferenceArray<V>[] current = pages;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+
+        AtomicReferenceArray<V>[] grown = newPages(Math.max(current.length, index + 1));
+        System.arraycopy(current, 0, grown, 0, current.length);
+        AtomicReferenceArray<V> page = new AtomicReferenceArray<>(PAGE_SIZE);
+        grown[index] = page;
+        pages = grown;
+        return page;
+    }
+
+    public V get(int handle) {
+        AtomicReferenceArray<V> page = page(handle);
+        return page != null ? page.get(handle & PAGE_MASK) : null;
+    }
+
+    public boolean containsKey(int handle) {
+        return get(handle) != null;
+    }
+
+    /**
+     * @return The previous value for the handle, or null if there was none
+     */
+    public V put(int handle, V value) {
+        if (value == null) throw new IllegalArgumentException("Null values are not supported");
+        if (handle < 0) return null;
+        return pageForWrite(handle).getAndSet(handle & PAGE_MASK, value);
+    }
+
+    /**
+     * @return The current value for the handle, or null if the value was stored
+     */
+    public V putIfAbsent(int handle, V value) {
+        if (value == null) throw new IllegalArgumentException("Null values are not supported");
+        if (handle < 0) return null;
+
+        AtomicReferenceArray<V> page = pageForWrite(handle);
+        int slot = handle & PAGE_MASK;
+        while (true) {
+            if (page.compareAndSet(slot, null, value)) return null;
+            V existing = page.get(slot);
+            if (existing != null) return existing;
+        }
+    }
+
+    /**
+     * @return The removed value, or null if the handle had none
+     */
+    public V remove(int handle) {
+        AtomicReferenceArray<V> page = page(handle);
+        return page != null ? page.getAndSet(handle & PAGE_MASK, null) : null;
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        for (AtomicReferenceArray<V> page : pages) {
+            if (page == null) continue;
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                V value = page.get(i);
+                if (value != null) action.accept(value);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        pages = newPages(1);
+    }
+}
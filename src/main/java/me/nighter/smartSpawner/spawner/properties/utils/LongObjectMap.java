@@ -0,0 +1,169 @@
+package me.nighter.smartSpawner.spawner.properties.utils;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Open addressing hash map from primitive long keys to objects. Lookups don't box the key
+ * or allocate, probing is linear over two flat arrays so it stays cache friendly.
+ * Null values are not supported, a null slot marks an empty bucket.
+ * <p>
+ * Not thread safe. Callers either synchronize the same way they would a {@link java.util.HashMap},
+ * or never mutate a published map and replace it with a modified {@link #copy()} instead.
+ *
+ * @param <V> The value type
+ */
+public class LongObjectMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        allocate(tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR)));
+    }
+
+    /**
+     * @return An independent map with the same entries
+     */
+    public LongObjectMap<V> copy() {
+        LongObjectMap<V> copy = new LongObjectMap<>(0);
+        copy.keys = keys.clone();
+        copy.values = values.clone();
+        copy.mask = mask;
+        copy.size = size;
+        copy.resizeThreshold = resizeThreshold;
+        return copy;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return Math.max(n, DEFAULT_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // Spreads the packed coordinates so neighbouring blocks don't land in neighbouring buckets
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (value == null) return null;
+            if (keys[i] == key) return (V) value;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return The previous value for the key, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) throw new IllegalArgumentException("Null values are not supported");
+
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            Object existing = values[i];
+            if (existing == null) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > resizeThreshold) {
+                    rehash(values.length << 1);
+                }
+                return null;
+            }
+            if (keys[i] == key) {
+                values[i] = value;
+                return (V) existing;
+            }
+        }
+    }
+
+    /**
+     * @return The removed value, or null if the key was not present
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (value == null) return null;
+            if (keys[i] == key) {
+                size--;
+                shiftBack(i);
+                return (V) value;
+            }
+        }
+    }
+
+    // Backward shift deletion, keeps probe chains intact without tombstones
+    private void shiftBack(int gap) {
+        for (int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            // Move the entry into the gap if its home bucket is not between the gap and its slot
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0L;
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] == null) continue;
+            int i = hash(oldKeys[j]) & mask;
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null) action.accept((V) value);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+}
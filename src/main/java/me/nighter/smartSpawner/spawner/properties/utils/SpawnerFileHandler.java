@@ -4,6 +4,7 @@ import me.nighter.smartSpawner.SmartSpawner;
 import me.nighter.smartSpawner.spawner.properties.SpawnerData;
 import me.nighter.smartSpawner.utils.ConfigManager;
 import me.nighter.smartSpawner.spawner.properties.VirtualInventory;
+import me.nighter.smartSpawner.utils.scheduler.ScheduledTask;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
@@ -15,11 +16,11 @@ import org.bukkit.Material;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.*;
 import java.util.logging.Logger;
 
 /**
@@ -33,17 +34,28 @@ public class SpawnerFileHandler {
     private File spawnerDataFile;
     private FileConfiguration spawnerData;
 
-    // Queue for managing individual spawner saves
+    // Queue for managing individual spawner saves. Keyed by the persistent ID rather than a handle, the
+    // write can land after the spawner was removed or paged out and its handle was handed to another one
     private final ConcurrentLinkedQueue<String> saveQueue = new ConcurrentLinkedQueue<>();
 
     // Track modified spawners for efficient batch saving
     private final Set<String> modifiedSpawners = ConcurrentHashMap.newKeySet();
 
-    // Lock to prevent concurrent file operations
-    private boolean isSaving = false;
+    // Every write to the data file runs on this one thread, in the order it was submitted
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "SmartSpawner-Save");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    // Task ID for periodic save task
-    private int saveTaskId = -1;
+    // Guards the in-memory configuration, which the writer updates while other threads read it
+    private final Object configLock = new Object();
+
+    // IDs present in the configuration, kept beside it so ID checks never wait on the config lock
+    private final Set<String> storedIds = ConcurrentHashMap.newKeySet();
+
+    // Periodic save task
+    private ScheduledTask saveTask;
 
     /**
      * Creates a new file handler for spawner data
@@ -91,6 +103,7 @@ public class SpawnerFileHandler {
         }
 
         spawnerData = YamlConfiguration.loadConfiguration(spawnerDataFile);
+        refreshStoredIds();
 
         spawnerData.options().header("""
         File Format Example:
@@ -112,70 +125,161 @@ public class SpawnerFileHandler {
         configManager.debug("Starting spawner data save task");
         int intervalSeconds = configManager.getSaveInterval();
 
-        if (saveTaskId != -1) {
-            Bukkit.getScheduler().cancelTask(saveTaskId);
+        if (saveTask != null) {
+            saveTask.cancel();
         }
 
-        saveTaskId = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+        saveTask = plugin.getTaskScheduler().runAsyncTimer(() -> {
             configManager.debug("Running scheduled save task - interval: " + intervalSeconds + "s");
             saveModifiedSpawners();
-        }, intervalSeconds * 20L, intervalSeconds * 20L).getTaskId();
+        }, intervalSeconds * 20L, intervalSeconds * 20L);
     }
 
     /**
-     * Saves a specific spawner to the data file
+     * Saves a specific spawner to the data file, only called on the writer thread
      *
      * @param spawnerId The ID of the spawner to save
      * @param spawner The spawner data to save
      * @return True if save was successful, false otherwise
      */
-    public boolean saveIndividualSpawner(String spawnerId, SpawnerData spawner) {
+    private boolean saveIndividualSpawner(String spawnerId, SpawnerData spawner) {
         if (spawner == null) return false;
 
         try {
-            String path = "spawners." + spawnerId;
-            Location loc = spawner.getSpawnerLocation();
+            writeSpawner(spawnerId, spawner);
 
-            // Ensure spawners section exists
-            if (spawnerData.getConfigurationSection("spawners") == null) {
-                spawnerData.createSection("spawners");
-            }
+            // Save file
+            saveFile();
+            return true;
 
+        } catch (IOException | RuntimeException e) {
+            logger.severe("Could not save spawner " + spawnerId + " to file!");
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    // Writes one spawner into the in-memory configuration, callers decide when the file is saved.
+    // Values are read before taking the config lock, so a busy spawner lock never holds up readers
+    private void writeSpawner(String spawnerId, SpawnerData spawner) {
+        String path = "spawners." + spawnerId;
+        Location loc = spawner.getSpawnerLocation();
+
+        // Spawners of a world that already unloaded keep the stored location, it can't have changed
+        String location = loc.isWorldLoaded()
+                ? String.format("%s,%d,%d,%d", loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ())
+                : null;
+
+        // Build settings string efficiently
+        String settings = String.valueOf(spawner.getSpawnerExp()) + ',' +
+                spawner.getSpawnerActive() + ',' +
+                spawner.getSpawnerRange() + ',' +
+                spawner.getSpawnerStop() + ',' +
+                spawner.getSpawnDelay() + ',' +
+                spawner.getMaxSpawnerLootSlots() + ',' +
+                spawner.getMaxStoredExp() + ',' +
+                spawner.getMinMobs() + ',' +
+                spawner.getMaxMobs() + ',' +
+                spawner.getStackSize() + ',' +
+                spawner.getLastSpawnTime() + ',' +
+                spawner.isAllowEquipmentItems();
+
+        // Serialize VirtualInventory if available
+        VirtualInventory virtualInv = spawner.getVirtualInventory();
+        List<String> serializedItems = virtualInv != null
+                ? ItemStackSerializer.serializeInventory(virtualInv.getConsolidatedItems())
+                : null;
+
+        synchronized (configLock) {
             // Save basic spawner properties
-            spawnerData.set(path + ".location", String.format("%s,%d,%d,%d",
-                    loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()));
+            if (location != null) {
+                spawnerData.set(path + ".location", location);
+            }
             spawnerData.set(path + ".entityType", spawner.getEntityType().name());
+            spawnerData.set(path + ".settings", settings);
+            spawnerData.set(path + ".validated", spawner.getLastValidated());
+            spawnerData.set(path + ".owner", spawner.getOwnerId() != null ? spawner.getOwnerId().toString() : null);
+            if (serializedItems != null) {
+                spawnerData.set(path + ".inventory", serializedItems);
+            }
+            storedIds.add(spawnerId);
+        }
+    }
 
-            // Build settings string efficiently
-            String settings = String.valueOf(spawner.getSpawnerExp()) + ',' +
-                    spawner.getSpawnerActive() + ',' +
-                    spawner.getSpawnerRange() + ',' +
-                    spawner.getSpawnerStop() + ',' +
-                    spawner.getSpawnDelay() + ',' +
-                    spawner.getMaxSpawnerLootSlots() + ',' +
-                    spawner.getMaxStoredExp() + ',' +
-                    spawner.getMinMobs() + ',' +
-                    spawner.getMaxMobs() + ',' +
-                    spawner.getStackSize() + ',' +
-                    spawner.getLastSpawnTime() + ',' +
-                    spawner.isAllowEquipmentItems();
+    // Only called with the config lock held, or before the configuration is shared
+    private void refreshStoredIds() {
+        storedIds.clear();
+        ConfigurationSection spawnersSection = spawnerData.getConfigurationSection("spawners");
+        if (spawnersSection != null) {
+            storedIds.addAll(spawnersSection.getKeys(false));
+        }
+    }
 
-            spawnerData.set(path + ".settings", settings);
+    // Serializes under the config lock, the disk write itself happens outside it
+    private void saveFile() throws IOException {
+        String data;
+        synchronized (configLock) {
+            data = spawnerData.saveToString();
+        }
+        Files.writeString(spawnerDataFile.toPath(), data, StandardCharsets.UTF_8);
+    }
 
-            // Save VirtualInventory if available
-            VirtualInventory virtualInv = spawner.getVirtualInventory();
-            if (virtualInv != null) {
-                Map<VirtualInventory.ItemSignature, Long> items = virtualInv.getConsolidatedItems();
-                List<String> serializedItems = ItemStackSerializer.serializeInventory(items);
-                spawnerData.set(path + ".inventory", serializedItems);
+    // Runs a write on the writer thread, or right here once the writer is shut down
+    private CompletableFuture<Boolean> submitWrite(Callable<Boolean> write) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(write.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
             }
+        };
 
-            // Save file
-            spawnerData.save(spawnerDataFile);
-            return true;
+        try {
+            writer.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+        return future;
+    }
 
-        } catch (IOException e) {
-            logger.severe("Could not save spawner " + spawnerId + " to file!");
+    /**
+     * Writes a batch of changed and deleted spawners with a single file save, instead of
+     * rewriting the data file once per spawner. The write is queued behind any earlier
+     * saves and runs off the calling thread.
+     *
+     * @param changed Spawners to write, keyed by ID
+     * @param deleted IDs of spawners to delete
+     * @return Completes with true once the file is written, or false if the write failed
+     */
+    public CompletableFuture<Boolean> saveBatch(Map<String, SpawnerData> changed, Collection<String> deleted) {
+        if (changed.isEmpty() && deleted.isEmpty()) return CompletableFuture.completedFuture(true);
+
+        Map<String, SpawnerData> toWrite = new LinkedHashMap<>(changed);
+        List<String> toDelete = new ArrayList<>(deleted);
+        return submitWrite(() -> writeBatch(toWrite, toDelete));
+    }
+
+    private boolean writeBatch(Map<String, SpawnerData> changed, Collection<String> deleted) {
+        try {
+            synchronized (configLock) {
+                for (String spawnerId : deleted) {
+                    spawnerData.set("spawners." + spawnerId, null);
+                    storedIds.remove(spawnerId);
+                }
+            }
+            deleted.forEach(modifiedSpawners::remove);
+
+            for (Map.Entry<String, SpawnerData> entry : changed.entrySet()) {
+                modifiedSpawners.remove(entry.getKey());
+                writeSpawner(entry.getKey(), entry.getValue());
+            }
+
+            saveFile();
+            configManager.debug("Batch wrote " + changed.size() + " spawners and deleted " + deleted.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.severe("Could not save spawner batch to spawners_data.yml!");
             e.printStackTrace();
             return false;
         }
@@ -203,28 +307,19 @@ public class SpawnerFileHandler {
 
     /**
      * Processes the save queue, saving one spawner at a time
-     * Runs asynchronously to prevent server lag
+     * Runs on the writer thread to prevent server lag
      */
-    private synchronized void processSaveQueue() {
-        if (isSaving || saveQueue.isEmpty()) return;
-
-        isSaving = true;
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            try {
-                String spawnerId = saveQueue.poll();
-                if (spawnerId != null) {
-                    // Get spawner from SpawnerManager and save it
-                    SpawnerData spawner = plugin.getSpawnerManager().getSpawnerById(spawnerId);
-                    if (spawner != null) {
-                        saveIndividualSpawner(spawnerId, spawner);
-                    }
-                }
-            } finally {
-                isSaving = false;
-                if (!saveQueue.isEmpty()) {
-                    processSaveQueue(); // Process next spawner in queue
+    private void processSaveQueue() {
+        submitWrite(() -> {
+            String spawnerId;
+            while ((spawnerId = saveQueue.poll()) != null) {
+                // Get spawner from SpawnerManager and save it
+                SpawnerData spawner = plugin.getSpawnerManager().getSpawnerById(spawnerId);
+                if (spawner != null) {
+                    saveIndividualSpawner(spawnerId, spawner);
                 }
             }
+            return true;
         });
     }
 
@@ -243,7 +338,7 @@ public class SpawnerFileHandler {
 
         if (!toSave.isEmpty()) {
             configManager.debug("Batch saving " + toSave.size() + " modified spawners");
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            submitWrite(() -> {
                 int savedCount = 0;
                 for (String id : toSave) {
                     SpawnerData spawner = plugin.getSpawnerManager().getSpawnerById(id);
@@ -254,6 +349,7 @@ public class SpawnerFileHandler {
                     }
                 }
                 configManager.debug("Batch save completed: " + savedCount + " spawners saved");
+                return true;
             });
         }
     }
@@ -265,71 +361,49 @@ public class SpawnerFileHandler {
      * @return True if save was successful
      */
     public boolean saveAllSpawners(Map<String, SpawnerData> spawners) {
-        try {
-            // Preserve data_version if it exists, otherwise set default
-            int dataVersion = spawnerData.getInt("data_version", 2);
-            spawnerData.set("data_version", dataVersion);
-
-            // Get existing spawners section or create new one
-            ConfigurationSection spawnersSection = spawnerData.getConfigurationSection("spawners");
-            if (spawnersSection == null) {
-                spawnersSection = spawnerData.createSection("spawners");
-            }
+        // Queued behind pending writes so an older write can't land on top of this one, then waited for
+        return submitWrite(() -> writeAllSpawners(spawners)).join();
+    }
 
+    private boolean writeAllSpawners(Map<String, SpawnerData> spawners) {
+        try {
             // Clear save queue and modified set to prevent duplicate operations
             saveQueue.clear();
             modifiedSpawners.clear();
 
-            // Track existing spawner IDs to remove only those that no longer exist
-            Set<String> existingIds = new HashSet<>(spawnersSection.getKeys(false));
-            Set<String> currentIds = spawners.keySet();
+            synchronized (configLock) {
+                // Preserve data_version if it exists, otherwise set default
+                int dataVersion = spawnerData.getInt("data_version", 2);
+                spawnerData.set("data_version", dataVersion);
+
+                // Get existing spawners section or create new one
+                ConfigurationSection spawnersSection = spawnerData.getConfigurationSection("spawners");
+                if (spawnersSection == null) {
+                    spawnersSection = spawnerData.createSection("spawners");
+                }
 
-            // Remove only spawners that don't exist anymore
-            ConfigurationSection finalSpawnersSection = spawnersSection;
-            existingIds.stream()
-                    .filter(id -> !currentIds.contains(id))
-                    .forEach(id -> finalSpawnersSection.set(id, null));
+                // Track existing spawner IDs to remove only those that no longer exist
+                Set<String> existingIds = new HashSet<>(spawnersSection.getKeys(false));
+                Set<String> currentIds = spawners.keySet();
+
+                // Remove only spawners that don't exist anymore, spawners of unloaded worlds are paged out, not gone
+                ConfigurationSection finalSpawnersSection = spawnersSection;
+                existingIds.stream()
+                        .filter(id -> !currentIds.contains(id) && isStoredWorldLoaded(id))
+                        .forEach(id -> {
+                            finalSpawnersSection.set(id, null);
+                            storedIds.remove(id);
+                        });
+            }
 
             // Save all current spawners
             for (Map.Entry<String, SpawnerData> entry : spawners.entrySet()) {
-                String spawnerId = entry.getKey();
-                SpawnerData spawner = entry.getValue();
-                Location loc = spawner.getSpawnerLocation();
-                String path = "spawners." + spawnerId;
-
-                // Save basic spawner properties
-                spawnerData.set(path + ".location", String.format("%s,%d,%d,%d",
-                        loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()));
-                spawnerData.set(path + ".entityType", spawner.getEntityType().name());
-
-                // Save settings
-                String settings = String.valueOf(spawner.getSpawnerExp()) + ',' +
-                        spawner.getSpawnerActive() + ',' +
-                        spawner.getSpawnerRange() + ',' +
-                        spawner.getSpawnerStop() + ',' +
-                        spawner.getSpawnDelay() + ',' +
-                        spawner.getMaxSpawnerLootSlots() + ',' +
-                        spawner.getMaxStoredExp() + ',' +
-                        spawner.getMinMobs() + ',' +
-                        spawner.getMaxMobs() + ',' +
-                        spawner.getStackSize() + ',' +
-                        spawner.getLastSpawnTime() + ',' +
-                        spawner.isAllowEquipmentItems();
-
-                spawnerData.set(path + ".settings", settings);
-
-                // Save VirtualInventory
-                VirtualInventory virtualInv = spawner.getVirtualInventory();
-                if (virtualInv != null) {
-                    Map<VirtualInventory.ItemSignature, Long> items = virtualInv.getConsolidatedItems();
-                    List<String> serializedItems = ItemStackSerializer.serializeInventory(items);
-                    spawnerData.set(path + ".inventory", serializedItems);
-                }
+                writeSpawner(entry.getKey(), entry.getValue());
             }
 
-            spawnerData.save(spawnerDataFile);
+            saveFile();
             return true;
-        } catch (IOException e) {
+        } catch (IOException | RuntimeException e) {
             logger.severe("Could not save spawners_data.yml!");
             e.printStackTrace();
             return false;
@@ -337,59 +411,133 @@ public class SpawnerFileHandler {
     }
 
     /**
-     * Deletes a spawner from the data file
+     * Deletes a spawner from the data file, queued behind any earlier saves
      *
      * @param spawnerId The ID of the spawner to delete
-     * @return True if deletion was successful
+     * @return Completes with true once the deletion is written
      */
-    public boolean deleteSpawnerFromFile(String spawnerId) {
-        try {
-            String path = "spawners." + spawnerId;
-            spawnerData.set(path, null);
-            spawnerData.save(spawnerDataFile);
+    public CompletableFuture<Boolean> deleteSpawnerFromFile(String spawnerId) {
+        return saveBatch(Collections.emptyMap(), Collections.singletonList(spawnerId));
+    }
 
-            // Remove from tracking sets
-            modifiedSpawners.remove(spawnerId);
+    /**
+     * Stops the periodic save and waits for queued writes to finish, called on shutdown
+     * after the final save
+     */
+    public void shutdown() {
+        if (saveTask != null) {
+            saveTask.cancel();
+        }
 
-            configManager.debug("Successfully deleted spawner " + spawnerId + " from data file");
-            return true;
-        } catch (IOException e) {
-            logger.severe("Could not delete spawner " + spawnerId + " from spawners_data.yml!");
-            e.printStackTrace();
-            return false;
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for spawner data writes to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Checks whether the data file holds a spawner with this ID, including spawners of unloaded worlds.
+     * Never waits on a running save, so it is safe to call from the main thread
+     *
+     * @param spawnerId The spawner ID
+     * @return True if the ID is stored
+     */
+    public boolean hasStoredSpawner(String spawnerId) {
+        return storedIds.contains(spawnerId);
+    }
+
     /**
      * Loads all spawner data from the file
      *
      * @return Map of spawner IDs to SpawnerData objects
      */
     public Map<String, SpawnerData> loadAllSpawners() {
-        Map<String, SpawnerData> loadedSpawners = new HashMap<>();
+        synchronized (configLock) {
+            Map<String, SpawnerData> loadedSpawners = new HashMap<>();
 
-        ConfigurationSection spawnersSection = spawnerData.getConfigurationSection("spawners");
-        if (spawnersSection == null) return loadedSpawners;
+            ConfigurationSection spawnersSection = spawnerData.getConfigurationSection("spawners");
+            if (spawnersSection == null) return loadedSpawners;
 
-        int loadedCount = 0;
-        int errorCount = 0;
+            int loadedCount = 0;
+            int errorCount = 0;
 
-        for (String spawnerId : spawnersSection.getKeys(false)) {
-            try {
-                SpawnerData spawner = loadSpawnerFromConfig(spawnerId);
-                if (spawner != null) {
-                    loadedSpawners.put(spawnerId, spawner);
-                    loadedCount++;
+            int pagedOutCount = 0;
+
+            for (String spawnerId : spawnersSection.getKeys(false)) {
+                // Worlds that aren't loaded yet page their spawners in when they load
+                if (!isStoredWorldLoaded(spawnerId)) {
+                    pagedOutCount++;
+                    continue;
+                }
+
+                try {
+                    SpawnerData spawner = loadSpawnerFromConfig(spawnerId);
+                    if (spawner != null) {
+                        loadedSpawners.put(spawnerId, spawner);
+                        loadedCount++;
+                    }
+                } catch (Exception e) {
+                    logger.severe("Error loading spawner " + spawnerId);
+                    e.printStackTrace();
+                    errorCount++;
                 }
-            } catch (Exception e) {
-                logger.severe("Error loading spawner " + spawnerId);
-                e.printStackTrace();
-                errorCount++;
             }
+
+            logger.info("Loaded " + loadedCount + " spawners. Errors: " + errorCount);
+            if (pagedOutCount > 0) {
+                logger.info(pagedOutCount + " spawners belong to worlds that aren't loaded, they load with their world");
+            }
+            return loadedSpawners;
         }
+    }
+
+    /**
+     * Loads the spawners of one world from the data file, called when the world loads
+     *
+     * @param worldName The name of the world
+     * @return Map of spawner IDs to SpawnerData objects
+     */
+    public Map<String, SpawnerData> loadWorldSpawners(String worldName) {
+        synchronized (configLock) {
+            Map<String, SpawnerData> loadedSpawners = new HashMap<>();
 
-        logger.info("Loaded " + loadedCount + " spawners. Errors: " + errorCount);
-        return loadedSpawners;
+            ConfigurationSection spawnersSection = spawnerData.getConfigurationSection("spawners");
+            if (spawnersSection == null) return loadedSpawners;
+
+            for (String spawnerId : spawnersSection.getKeys(false)) {
+                if (!worldName.equals(getStoredWorldName(spawnerId))) continue;
+
+                try {
+                    SpawnerData spawner = loadSpawnerFromConfig(spawnerId);
+                    if (spawner != null) {
+                        loadedSpawners.put(spawnerId, spawner);
+                    }
+                } catch (Exception e) {
+                    logger.severe("Error loading spawner " + spawnerId);
+                    e.printStackTrace();
+                }
+            }
+            return loadedSpawners;
+        }
+    }
+
+    // The world name is the first part of the stored location, null if the location is missing
+    private String getStoredWorldName(String spawnerId) {
+        String locationString = spawnerData.getString("spawners." + spawnerId + ".location");
+        if (locationString == null) return null;
+
+        int separator = locationString.indexOf(',');
+        return separator > 0 ? locationString.substring(0, separator) : null;
+    }
+
+    // Records without a readable world count as loaded, so they are still reported and cleaned up as before
+    private boolean isStoredWorldLoaded(String spawnerId) {
+        String worldName = getStoredWorldName(spawnerId);
+        return worldName == null || Bukkit.getWorld(worldName) != null;
     }
 
     /**
@@ -475,6 +623,18 @@ public class SpawnerFileHandler {
             }
         }
 
+        spawner.setLastValidated(spawnerData.getLong(path + ".validated", 0L));
+
+        // Spawners saved before owners were tracked simply have none
+        String ownerString = spawnerData.getString(path + ".owner");
+        if (ownerString != null) {
+            try {
+                spawner.setOwnerId(UUID.fromString(ownerString));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid owner for spawner " + spawnerId + ": " + ownerString);
+            }
+        }
+
         // Load inventory
         List<String> inventoryData = spawnerData.getStringList(path + ".inventory");
         VirtualInventory virtualInv = new VirtualInventory(spawner.getMaxSpawnerLootSlots());
@@ -513,14 +673,14 @@ public class SpawnerFileHandler {
      * @return true if the block is a MOB_SPAWNER, false otherwise
      */
     private boolean isSpawnerBlock(Location location) {
-        // Make sure we run this on the main thread if needed
-        if (!Bukkit.isPrimaryThread()) {
-            // Return a default value when running async, will be checked properly during processing
+        // Only the thread owning the block may read it
+        if (!plugin.getTaskScheduler().isOwnedByCurrentThread(location)) {
+            // Return a default value when running elsewhere, will be checked properly during processing
             return true;
         }
 
-        // Check if the chunk is loaded
-        if (!location.getChunk().isLoaded()) {
+        // Check if the chunk is loaded, without loading it through getChunk()
+        if (!location.getWorld().isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4)) {
             // We can't check unloaded chunks, so we'll assume it's valid for now
             return true;
         }
@@ -532,7 +692,10 @@ public class SpawnerFileHandler {
      * Reloads spawner data from file
      */
     public void reloadSpawnerData() {
-        spawnerData = YamlConfiguration.loadConfiguration(spawnerDataFile);
+        synchronized (configLock) {
+            spawnerData = YamlConfiguration.loadConfiguration(spawnerDataFile);
+            refreshStoredIds();
+        }
     }
 
     /**
@@ -0,0 +1,68 @@
+package me.nighter.smartSpawner.spawner.properties.utils;
+
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.CreatureSpawner;
+
+/**
+ * Keeps vanilla from ticking spawners this plugin manages. Their spawn delay is pushed to the
+ * maximum vanilla can store, so while a player is in range the block mostly just counts down.
+ * Once the delay runs out, roughly every 27 minutes, vanilla still makes one full spawn attempt,
+ * which the spawn event listener cancels. The client still shows the spinning mob.
+ * <p>
+ * Spawners that stop being managed get the vanilla delays back through {@link #restore(Block)}.
+ */
+public final class VanillaSpawnerSuppressor {
+    // Vanilla saves delays as shorts, so this is the longest delay that survives a chunk save
+    public static final int SUPPRESSED_DELAY = Short.MAX_VALUE;
+
+    // Vanilla defaults for a freshly placed spawner
+    private static final int VANILLA_MIN_DELAY = 200;
+    private static final int VANILLA_MAX_DELAY = 800;
+    private static final int VANILLA_INITIAL_DELAY = 20;
+
+    private VanillaSpawnerSuppressor() {}
+
+    public static boolean isSuppressed(CreatureSpawner spawner) {
+        return spawner.getMinSpawnDelay() == SUPPRESSED_DELAY && spawner.getMaxSpawnDelay() == SUPPRESSED_DELAY;
+    }
+
+    /**
+     * Applies the suppressed delays to a spawner block if it doesn't have them yet
+     *
+     * @param block The spawner block
+     * @return true if the block state was changed
+     */
+    public static boolean suppress(Block block) {
+        BlockState state = block.getState();
+        if (!(state instanceof CreatureSpawner spawner) || isSuppressed(spawner)) {
+            return false;
+        }
+
+        // Max first, the minimum may not exceed the current maximum
+        spawner.setMaxSpawnDelay(SUPPRESSED_DELAY);
+        spawner.setMinSpawnDelay(SUPPRESSED_DELAY);
+        spawner.setDelay(SUPPRESSED_DELAY);
+        return spawner.update(true, false);
+    }
+
+    /**
+     * Gives a suppressed spawner block the vanilla delays back, used once the plugin stops
+     * managing it. Blocks without the suppressed delays are left alone.
+     *
+     * @param block The spawner block
+     * @return true if the block state was changed
+     */
+    public static boolean restore(Block block) {
+        BlockState state = block.getState();
+        if (!(state instanceof CreatureSpawner spawner) || !isSuppressed(spawner)) {
+            return false;
+        }
+
+        // Min first, the maximum may not drop below the current minimum
+        spawner.setMinSpawnDelay(VANILLA_MIN_DELAY);
+        spawner.setMaxSpawnDelay(VANILLA_MAX_DELAY);
+        spawner.setDelay(VANILLA_INITIAL_DELAY);
+        return spawner.update(true, false);
+    }
+}
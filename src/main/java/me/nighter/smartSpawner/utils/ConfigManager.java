@@ -310,6 +310,8 @@ public class ConfigManager {
         put("spawner.allow-toggle-equipment-drops", true);
         put("spawner.allow-grief", false);
         put("spawner.activate-on-place", true);
+        put("spawner.limits.max-spawners", 0);
+        put("spawner.limits.max-stacked", 0);
 
         // Extra & Custom Mechanics
         put("natural-spawner-interaction", false);
@@ -356,6 +358,20 @@ public class ConfigManager {
         put("hopper.items-per-transfer", 1);
         put("hopper.check-interval", 20);
 
+        // Performance Tuning
+        put("performance.storage-compaction.enabled", true);
+        put("performance.storage-compaction.idle-time", 600);
+        put("performance.range-check.time-budget", 2000);
+        put("performance.range-check.max-changes-per-tick", 0);
+        put("performance.range-check.deactivation-margin", 4);
+        put("performance.range-check.deactivation-delay", 10);
+        put("performance.afk.enabled", false);
+        put("performance.afk.idle-time", 300);
+        put("performance.afk.slowdown", 4);
+        put("performance.cluster-mode.enabled", false);
+        put("performance.ghost-check.revalidate-after", 24);
+        put("performance.ghost-check.chunks-per-second", 4);
+
         // Update Checker
         put("update-checker.enabled", true);
         put("update-checker.check-interval", 24);
@@ -523,6 +539,16 @@ public class ConfigManager {
                 key -> config.getInt(key, (int) defaultConfig.get(key)));
     }
 
+    public int getMaxSpawnersPerPlayer() {
+        return (int) configCache.computeIfAbsent("spawner.limits.max-spawners",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public int getMaxStackedPerPlayer() {
+        return (int) configCache.computeIfAbsent("spawner.limits.max-stacked",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
     public int getMaxStoredExp() {
         return (int) configCache.computeIfAbsent("spawner.max-stored-exp",
                 key -> config.getInt(key, (int) defaultConfig.get(key)));
@@ -726,6 +752,70 @@ public class ConfigManager {
                 key -> config.getInt(key, (int) defaultConfig.get(key)));
     }
 
+    // ===============================================================
+    //                     Performance Tuning
+    // ===============================================================
+
+    public boolean isStorageCompactionEnabled() {
+        return (boolean) configCache.computeIfAbsent("performance.storage-compaction.enabled",
+                key -> config.getBoolean(key, (boolean) defaultConfig.get(key)));
+    }
+
+    public int getStorageCompactionIdleTime() {
+        return (int) configCache.computeIfAbsent("performance.storage-compaction.idle-time",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public int getRangeCheckTimeBudget() {
+        return (int) configCache.computeIfAbsent("performance.range-check.time-budget",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public int getRangeCheckMaxChangesPerTick() {
+        return (int) configCache.computeIfAbsent("performance.range-check.max-changes-per-tick",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public int getRangeCheckDeactivationMargin() {
+        return (int) configCache.computeIfAbsent("performance.range-check.deactivation-margin",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public int getRangeCheckDeactivationDelay() {
+        return (int) configCache.computeIfAbsent("performance.range-check.deactivation-delay",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public boolean isAfkThrottlingEnabled() {
+        return (boolean) configCache.computeIfAbsent("performance.afk.enabled",
+                key -> config.getBoolean(key, (boolean) defaultConfig.get(key)));
+    }
+
+    public int getAfkIdleTime() {
+        return (int) configCache.computeIfAbsent("performance.afk.idle-time",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public int getAfkSlowdown() {
+        return (int) configCache.computeIfAbsent("performance.afk.slowdown",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public boolean isClusterModeEnabled() {
+        return (boolean) configCache.computeIfAbsent("performance.cluster-mode.enabled",
+                key -> config.getBoolean(key, (boolean) defaultConfig.get(key)));
+    }
+
+    public int getGhostCheckRevalidateAfter() {
+        return (int) configCache.computeIfAbsent("performance.ghost-check.revalidate-after",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
+    public int getGhostCheckChunksPerSecond() {
+        return (int) configCache.computeIfAbsent("performance.ghost-check.chunks-per-second",
+                key -> config.getInt(key, (int) defaultConfig.get(key)));
+    }
+
     // ===============================================================
     //                    Plugin Update Checker
     // ===============================================================
@@ -200,6 +200,16 @@ public class LanguageManager {
         put("messages.stack-full-overflow.type", "CHAT");
         put("messages.stack-full-overflow.sound", "block.note_block.pling");
 
+        put("messages.spawner-limit.message", "&cYou have reached your spawner limit!");
+        put("messages.spawner-limit.prefix", true);
+        put("messages.spawner-limit.type", "CHAT");
+        put("messages.spawner-limit.sound", "block.note_block.pling");
+
+        put("messages.stack-limit-owner.message", "&cThe owner of this spawner has reached their stack limit of %limit%!");
+        put("messages.stack-limit-owner.prefix", true);
+        put("messages.stack-limit-owner.type", "CHAT");
+        put("messages.stack-limit-owner.sound", "block.note_block.pling");
+
         put("messages.inventory-full-drop.message", "&cSome spawners were dropped at your feet due to full inventory!");
         put("messages.inventory-full-drop.prefix", true);
         put("messages.inventory-full-drop.type", "CHAT");
@@ -366,7 +376,8 @@ public class LanguageManager {
                 "&f/smartspawner reload &7- Reload the plugin configuration",
                 "&f/smartspawner list &7- Open the spawner list (for admin management)",
                 "&f/smartspawner give <player> <mobtype> <amount> &7- Give spawners to a player",
-                "&f/smartspawner hologram &7- Toggle hologram visibility"
+                "&f/smartspawner hologram &7- Toggle hologram visibility",
+                "&f/smartspawner memory [top] &7- Show estimated memory usage of spawners"
         ));
         put("command.reload.usage", "&cUsage: /smartspawner reload");
         put("command.reload.wait", "&eReloading plugin please wait...");
@@ -386,6 +397,18 @@ public class LanguageManager {
         put("command.hologram.enabled", "&#00E689Holograms have been &aenabled&7!");
         put("command.hologram.disabled", "&cHolograms have been &cdisabled&7!");
 
+        put("command.memory.usage", "&cUsage: /smartspawner memory [top]");
+        put("command.memory.header", "&#00E689Spawner memory report &7(estimated)");
+        put("command.memory.total", "&7Spawners: &f%count% &7| Estimated: &f%size%");
+        put("command.memory.inventory", "&7Item types: &f%signatures% &7(%signature_size%) &7| Display cache: &f%display_slots% slots &7(%display_size%) &7| Compacted: &f%cold_count% &7(%cold_size%)");
+        put("command.memory.other", "&7Holograms: &f%holograms% &7(%hologram_size%) &7| Locks: &f%locks% &7(%lock_size%)");
+        put("command.memory.group.world", "&#00E689By world:");
+        put("command.memory.group.entity", "&#00E689By entity type:");
+        put("command.memory.group.stack", "&#00E689By stack size:");
+        put("command.memory.group.line", "&7- &f%name%&7: %count% spawner(s), &f%size%");
+        put("command.memory.top-header", "&#00E689Top %top% heaviest spawners:");
+        put("command.memory.top-line", "&7- &f#%id% &7(%entity%, x%stack%, %world%): &f%size%");
+
         // No Permission Message
         put("no-permission.message", "&cYou do not have permission to do that!");
         put("no-permission.prefix", true);
@@ -5,6 +5,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import me.nighter.smartSpawner.SmartSpawner;
+import me.nighter.smartSpawner.utils.scheduler.ScheduledTask;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
@@ -16,7 +17,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
@@ -36,7 +36,7 @@ public class UpdateChecker implements Listener {
     private static final int TIMEOUT_SECONDS = 5;
     private final ConfigManager configManager;
     private final LanguageManager languageManager;
-    private BukkitTask updateTask;
+    private ScheduledTask updateTask;
 
     // Console colors
     private static final String CONSOLE_RESET = "\u001B[0m";
@@ -61,12 +61,12 @@ public class UpdateChecker implements Listener {
         Bukkit.getPluginManager().registerEvents(this, plugin);
 
         // Initial check after server starts (delayed by 1 minute)
-        Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, () ->
+        plugin.getTaskScheduler().runGlobalLater(() ->
                 checkForUpdate().thenAccept(this::handleUpdateResult), 20L * 60L);
 
         // Schedule periodic checks
         long intervalTicks = configManager.getUpdateCheckInterval() * 20L * 60L * 60L;
-        updateTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin,
+        updateTask = plugin.getTaskScheduler().runAsyncTimer(
                 () -> checkForUpdate().thenAccept(this::handleUpdateResult),
                 intervalTicks,
                 intervalTicks
@@ -230,7 +230,7 @@ public class UpdateChecker implements Listener {
 
         Player player = event.getPlayer();
         if (player.isOp() || player.hasPermission("smartspawner.update")) {
-            Bukkit.getScheduler().runTaskLater(plugin,
+            plugin.getTaskScheduler().runForEntityLater(player,
                     () -> sendUpdateMessage(player),
                     40L
             );
@@ -0,0 +1,98 @@
+package me.nighter.smartSpawner.utils.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Default scheduler backed by the Bukkit scheduler, every non async task runs on the main thread.
+ */
+public class BukkitTaskScheduler implements TaskScheduler {
+    private final Plugin plugin;
+    private final BukkitScheduler scheduler;
+
+    public BukkitTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        this.scheduler = Bukkit.getScheduler();
+    }
+
+    private record BukkitScheduledTask(BukkitTask task) implements ScheduledTask {
+        @Override
+        public void cancel() {
+            task.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+    }
+
+    @Override
+    public ScheduledTask runGlobal(Runnable task) {
+        return new BukkitScheduledTask(scheduler.runTask(plugin, task));
+    }
+
+    @Override
+    public ScheduledTask runGlobalLater(Runnable task, long delay) {
+        return new BukkitScheduledTask(scheduler.runTaskLater(plugin, task, delay));
+    }
+
+    @Override
+    public ScheduledTask runGlobalTimer(Runnable task, long delay, long period) {
+        return new BukkitScheduledTask(scheduler.runTaskTimer(plugin, task, delay, period));
+    }
+
+    @Override
+    public ScheduledTask runAtLocation(Location location, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ScheduledTask runAtLocationLater(Location location, Runnable task, long delay) {
+        return runGlobalLater(task, delay);
+    }
+
+    @Override
+    public ScheduledTask runAtLocationTimer(Location location, Runnable task, long delay, long period) {
+        return runGlobalTimer(task, delay, period);
+    }
+
+    @Override
+    public ScheduledTask runForEntity(Entity entity, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ScheduledTask runForEntityLater(Entity entity, Runnable task, long delay) {
+        return runGlobalLater(task, delay);
+    }
+
+    @Override
+    public ScheduledTask runAsync(Runnable task) {
+        return new BukkitScheduledTask(scheduler.runTaskAsynchronously(plugin, task));
+    }
+
+    @Override
+    public ScheduledTask runAsyncTimer(Runnable task, long delay, long period) {
+        return new BukkitScheduledTask(scheduler.runTaskTimerAsynchronously(plugin, task, delay, period));
+    }
+
+    @Override
+    public void cancelAll() {
+        scheduler.cancelTasks(plugin);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Location location) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+}
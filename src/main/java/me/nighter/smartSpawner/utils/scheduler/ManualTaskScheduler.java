@@ -0,0 +1,162 @@
+package me.nighter.smartSpawner.utils.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Single threaded scheduler that only runs tasks when told to. Every task, async ones included,
+ * runs on the thread calling {@link #tick()} once its delay is up, in the order it was scheduled.
+ * Lets scheduling code be stepped through tick by tick without a server, e.g. in tests.
+ * <p>
+ * The thread that created the scheduler owns every location and entity.
+ */
+public class ManualTaskScheduler implements TaskScheduler {
+    private final Thread owner = Thread.currentThread();
+    private final PriorityQueue<ManualTask> queue = new PriorityQueue<>(
+            Comparator.comparingLong((ManualTask task) -> task.dueTick).thenComparingLong(task -> task.order));
+    private long currentTick;
+    private long nextOrder;
+
+    private static final class ManualTask implements ScheduledTask {
+        private final Runnable task;
+        private final long period;
+        private long dueTick;
+        private long order;
+        private volatile boolean cancelled;
+
+        private ManualTask(Runnable task, long period) {
+            this.task = task;
+            this.period = period;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    // Like the Bukkit scheduler, even a task without delay waits for the next tick
+    private synchronized ManualTask schedule(ManualTask task, long delay) {
+        task.dueTick = currentTick + Math.max(1L, delay);
+        task.order = nextOrder++;
+        queue.add(task);
+        return task;
+    }
+
+    /**
+     * Advances one tick and runs every task that is due. Tasks scheduled while ticking run on a later tick.
+     */
+    public void tick() {
+        List<ManualTask> due = new ArrayList<>();
+        synchronized (this) {
+            currentTick++;
+            while (!queue.isEmpty() && queue.peek().dueTick <= currentTick) {
+                due.add(queue.poll());
+            }
+        }
+
+        for (ManualTask task : due) {
+            if (task.isCancelled()) continue;
+            task.task.run();
+            if (task.period > 0 && !task.isCancelled()) {
+                schedule(task, task.period);
+            }
+        }
+    }
+
+    /**
+     * @param ticks The number of ticks to advance
+     */
+    public void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    public synchronized long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return The number of tasks waiting to run, cancelled ones that weren't reached yet included
+     */
+    public synchronized int getPendingTasks() {
+        return queue.size();
+    }
+
+    @Override
+    public ScheduledTask runGlobal(Runnable task) {
+        return schedule(new ManualTask(task, 0L), 0L);
+    }
+
+    @Override
+    public ScheduledTask runGlobalLater(Runnable task, long delay) {
+        return schedule(new ManualTask(task, 0L), delay);
+    }
+
+    @Override
+    public ScheduledTask runGlobalTimer(Runnable task, long delay, long period) {
+        return schedule(new ManualTask(task, Math.max(1L, period)), delay);
+    }
+
+    @Override
+    public ScheduledTask runAtLocation(Location location, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ScheduledTask runAtLocationLater(Location location, Runnable task, long delay) {
+        return runGlobalLater(task, delay);
+    }
+
+    @Override
+    public ScheduledTask runAtLocationTimer(Location location, Runnable task, long delay, long period) {
+        return runGlobalTimer(task, delay, period);
+    }
+
+    @Override
+    public ScheduledTask runForEntity(Entity entity, Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ScheduledTask runForEntityLater(Entity entity, Runnable task, long delay) {
+        return runGlobalLater(task, delay);
+    }
+
+    @Override
+    public ScheduledTask runAsync(Runnable task) {
+        return runGlobal(task);
+    }
+
+    @Override
+    public ScheduledTask runAsyncTimer(Runnable task, long delay, long period) {
+        return runGlobalTimer(task, delay, period);
+    }
+
+    @Override
+    public synchronized void cancelAll() {
+        queue.forEach(ManualTask::cancel);
+        queue.clear();
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Location location) {
+        return Thread.currentThread() == owner;
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Thread.currentThread() == owner;
+    }
+}
@@ -0,0 +1,108 @@
+package me.nighter.smartSpawner.utils.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler for region threaded servers, built on Paper's region, entity, global and async schedulers.
+ * Spawners in different regions tick in parallel.
+ */
+public class RegionTaskScheduler implements TaskScheduler {
+    private static final long MILLIS_PER_TICK = 50L;
+    private final Plugin plugin;
+
+    public RegionTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    private record RegionScheduledTask(io.papermc.paper.threadedregions.scheduler.ScheduledTask task) implements ScheduledTask {
+        @Override
+        public void cancel() {
+            if (task != null) task.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task == null || task.isCancelled();
+        }
+    }
+
+    // Region schedulers reject delays below one tick
+    private static long ticks(long value) {
+        return Math.max(1L, value);
+    }
+
+    @Override
+    public ScheduledTask runGlobal(Runnable task) {
+        return new RegionScheduledTask(Bukkit.getGlobalRegionScheduler().run(plugin, t -> task.run()));
+    }
+
+    @Override
+    public ScheduledTask runGlobalLater(Runnable task, long delay) {
+        return new RegionScheduledTask(Bukkit.getGlobalRegionScheduler().runDelayed(plugin, t -> task.run(), ticks(delay)));
+    }
+
+    @Override
+    public ScheduledTask runGlobalTimer(Runnable task, long delay, long period) {
+        return new RegionScheduledTask(Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, t -> task.run(),
+                ticks(delay), ticks(period)));
+    }
+
+    @Override
+    public ScheduledTask runAtLocation(Location location, Runnable task) {
+        return new RegionScheduledTask(Bukkit.getRegionScheduler().run(plugin, location, t -> task.run()));
+    }
+
+    @Override
+    public ScheduledTask runAtLocationLater(Location location, Runnable task, long delay) {
+        return new RegionScheduledTask(Bukkit.getRegionScheduler().runDelayed(plugin, location, t -> task.run(), ticks(delay)));
+    }
+
+    @Override
+    public ScheduledTask runAtLocationTimer(Location location, Runnable task, long delay, long period) {
+        return new RegionScheduledTask(Bukkit.getRegionScheduler().runAtFixedRate(plugin, location, t -> task.run(),
+                ticks(delay), ticks(period)));
+    }
+
+    // Entity tasks are dropped silently when the entity is removed before they run
+    @Override
+    public ScheduledTask runForEntity(Entity entity, Runnable task) {
+        return new RegionScheduledTask(entity.getScheduler().run(plugin, t -> task.run(), null));
+    }
+
+    @Override
+    public ScheduledTask runForEntityLater(Entity entity, Runnable task, long delay) {
+        return new RegionScheduledTask(entity.getScheduler().runDelayed(plugin, t -> task.run(), null, ticks(delay)));
+    }
+
+    @Override
+    public ScheduledTask runAsync(Runnable task) {
+        return new RegionScheduledTask(Bukkit.getAsyncScheduler().runNow(plugin, t -> task.run()));
+    }
+
+    @Override
+    public ScheduledTask runAsyncTimer(Runnable task, long delay, long period) {
+        return new RegionScheduledTask(Bukkit.getAsyncScheduler().runAtFixedRate(plugin, t -> task.run(),
+                ticks(delay) * MILLIS_PER_TICK, ticks(period) * MILLIS_PER_TICK, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void cancelAll() {
+        Bukkit.getGlobalRegionScheduler().cancelTasks(plugin);
+        Bukkit.getAsyncScheduler().cancelTasks(plugin);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Location location) {
+        return Bukkit.isOwnedByCurrentRegion(location);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Bukkit.isOwnedByCurrentRegion(entity);
+    }
+}
@@ -0,0 +1,11 @@
+package me.nighter.smartSpawner.utils.scheduler;
+
+/**
+ * Handle to a task scheduled through a {@link TaskScheduler}.
+ */
+public interface ScheduledTask {
+
+    void cancel();
+
+    boolean isCancelled();
+}
@@ -0,0 +1,93 @@
+package me.nighter.smartSpawner.utils.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Schedules plugin work without assuming a single main thread.
+ * <p>
+ * Work tied to a block runs on the thread owning that location, work tied to an entity follows
+ * the entity, and global work runs on the thread owning the server-wide state. On a regular
+ * Bukkit server all of these are the main thread. Delays and periods are in ticks.
+ */
+public interface TaskScheduler {
+
+    ScheduledTask runGlobal(Runnable task);
+
+    ScheduledTask runGlobalLater(Runnable task, long delay);
+
+    ScheduledTask runGlobalTimer(Runnable task, long delay, long period);
+
+    ScheduledTask runAtLocation(Location location, Runnable task);
+
+    ScheduledTask runAtLocationLater(Location location, Runnable task, long delay);
+
+    ScheduledTask runAtLocationTimer(Location location, Runnable task, long delay, long period);
+
+    ScheduledTask runForEntity(Entity entity, Runnable task);
+
+    ScheduledTask runForEntityLater(Entity entity, Runnable task, long delay);
+
+    ScheduledTask runAsync(Runnable task);
+
+    ScheduledTask runAsyncTimer(Runnable task, long delay, long period);
+
+    void cancelAll();
+
+    /**
+     * @param location The location to check
+     * @return true if the current thread may touch the blocks and entities at the location
+     */
+    boolean isOwnedByCurrentThread(Location location);
+
+    /**
+     * @param entity The entity to check
+     * @return true if the current thread may touch the entity
+     */
+    boolean isOwnedByCurrentThread(Entity entity);
+
+    /**
+     * Runs the task right away if the current thread owns the location, otherwise on the thread that does.
+     *
+     * @param location The location the task touches
+     * @param task The task to run
+     */
+    default void executeAtLocation(Location location, Runnable task) {
+        if (isOwnedByCurrentThread(location)) {
+            task.run();
+        } else {
+            runAtLocation(location, task);
+        }
+    }
+
+    /**
+     * Runs the task right away if the current thread owns the entity, otherwise on the thread that does.
+     *
+     * @param entity The entity the task touches
+     * @param task The task to run
+     */
+    default void executeForEntity(Entity entity, Runnable task) {
+        if (isOwnedByCurrentThread(entity)) {
+            task.run();
+        } else {
+            runForEntity(entity, task);
+        }
+    }
+
+    /**
+     * Picks the region based implementation on region threaded servers and the Bukkit
+     * scheduler everywhere else.
+     *
+     * @param plugin The plugin owning the tasks
+     * @return The scheduler for this server
+     */
+    static TaskScheduler create(Plugin plugin) {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return new RegionTaskScheduler(plugin);
+        } catch (ClassNotFoundException e) {
+            return new BukkitTaskScheduler(plugin);
+        }
+    }
+}